@@ -0,0 +1,64 @@
+package benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.net.http.HttpClient;
+import java.nio.file.Files;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Boots the whole stack, replays the configured workload through the gateway and compares the result with the
+ * stored baseline. Exits non-zero on a regression so {@code ./gradlew :benchmark:benchmark} fails.
+ */
+public class BenchmarkApplication {
+
+    private static final String GATEWAY_URL = "http://localhost:8080";
+
+    public static void main(String[] args) throws Exception {
+        BenchmarkConfig config = BenchmarkConfig.fromSystemProperties();
+        if (!config.updateBaseline() && !Files.exists(config.baselineFile()) && config.requireBaseline()) {
+            System.err.println("No baseline at " + config.baselineFile().toAbsolutePath()
+                    + "; record one with -Pbenchmark.update-baseline=true");
+            System.exit(1);
+        }
+        ObjectMapper objectMapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+
+        BenchmarkReport report;
+        try (StackLauncher stack = new StackLauncher(config)) {
+            stack.start();
+            System.out.println("Stack started: " + stack.startupMillis() + " ms");
+
+            HttpClient httpClient = HttpClient.newBuilder()
+                    .version(HttpClient.Version.HTTP_1_1)
+                    .connectTimeout(Duration.ofSeconds(5))
+                    .build();
+            LoadGenerator generator = new LoadGenerator(new BoardClient(GATEWAY_URL, httpClient, objectMapper), config);
+            generator.seed();
+            report = generator.run(stack.startupMillis());
+        }
+
+        Files.createDirectories(config.resultFile().toAbsolutePath().getParent());
+        objectMapper.writeValue(config.resultFile().toFile(), report);
+        report.operations().forEach((name, stats) -> System.out.printf(
+                "%-23s %9.1f ops/s  p50 %7.2fms  p90 %7.2fms  p99 %7.2fms  max %8.2fms  errors %d%n",
+                name, stats.throughput(), stats.p50Millis(), stats.p90Millis(), stats.p99Millis(),
+                stats.maxMillis(), stats.errors()));
+
+        if (config.updateBaseline() || !Files.exists(config.baselineFile())) {
+            objectMapper.writeValue(config.baselineFile().toFile(), report);
+            System.out.println("Baseline written to " + config.baselineFile().toAbsolutePath());
+            return;
+        }
+
+        BenchmarkReport baseline = objectMapper.readValue(config.baselineFile().toFile(), BenchmarkReport.class);
+        List<String> regressions = report.regressionsAgainst(baseline, config.tolerance(), config.maxErrorRate());
+        if (!regressions.isEmpty()) {
+            System.err.println("Performance regression against " + config.baselineFile().toAbsolutePath() + ":");
+            regressions.forEach(regression -> System.err.println("  " + regression));
+            System.exit(1);
+        }
+        System.out.println("No regression against " + config.baselineFile().toAbsolutePath());
+    }
+}
@@ -0,0 +1,92 @@
+package benchmark;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Benchmark settings, read from {@code benchmark.*} system properties (the Gradle task forwards
+ * {@code -Pbenchmark.*} project properties).
+ */
+public record BenchmarkConfig(
+        String database,
+        String mysqlHost,
+        String profiles,
+        String jdbcParams,
+        String articleReads,
+        int concurrency,
+        Duration warmup,
+        Duration duration,
+        Map<Operation, Integer> mix,
+        int seedArticles,
+        int seedUsers,
+        double tolerance,
+        double maxErrorRate,
+        Path baselineFile,
+        Path resultFile,
+        Path logDir,
+        boolean updateBaseline,
+        boolean requireBaseline) {
+
+    // Weight 0 leaves an operation out of the run, so listArticlesWithContent is only measured when asked for
+    private static final String DEFAULT_MIX =
+            "signup=5,login=10,createArticle=10,createComment=10,listArticles=30,listArticlesWithContent=0,"
+                    + "articleDetail=15,commentTree=20";
+
+    public static BenchmarkConfig fromSystemProperties() {
+        String database = System.getProperty("benchmark.database", "h2");
+        if (!database.equals("h2") && !database.equals("mysql")) {
+            throw new IllegalArgumentException("benchmark.database must be h2 or mysql: " + database);
+        }
+        String jdbcParams = System.getProperty("benchmark.jdbc-params");
+        if (jdbcParams != null && database.equals("h2")) {
+            throw new IllegalArgumentException("benchmark.jdbc-params only applies to benchmark.database=mysql");
+        }
+        String articleReads = System.getProperty("benchmark.article-reads", "servlet");
+        if (!articleReads.equals("servlet") && !articleReads.equals("reactive")) {
+            throw new IllegalArgumentException("benchmark.article-reads must be servlet or reactive: " + articleReads);
+        }
+        if (articleReads.equals("reactive") && database.equals("h2")) {
+            // The reactive instance reads over R2DBC, which cannot reach another JVM's in-memory H2 database
+            throw new IllegalArgumentException("benchmark.article-reads=reactive requires benchmark.database=mysql");
+        }
+        return new BenchmarkConfig(
+                database,
+                System.getProperty("benchmark.mysql-host", "localhost"),
+                System.getProperty("benchmark.profiles", "perf"),
+                jdbcParams,
+                articleReads,
+                Integer.getInteger("benchmark.concurrency", 8),
+                Duration.ofSeconds(Long.getLong("benchmark.warmup", 10L)),
+                Duration.ofSeconds(Long.getLong("benchmark.duration", 30L)),
+                parseMix(System.getProperty("benchmark.mix", DEFAULT_MIX)),
+                Integer.getInteger("benchmark.seed-articles", 50),
+                Integer.getInteger("benchmark.seed-users", 20),
+                Double.parseDouble(System.getProperty("benchmark.tolerance", "0.15")),
+                Double.parseDouble(System.getProperty("benchmark.max-error-rate", "0.01")),
+                Path.of(System.getProperty("benchmark.baseline", "baseline.json")),
+                Path.of(System.getProperty("benchmark.result", "build/benchmark/result.json")),
+                Path.of(System.getProperty("benchmark.log-dir", "build/benchmark/logs")),
+                Boolean.getBoolean("benchmark.update-baseline"),
+                Boolean.getBoolean("benchmark.require-baseline"));
+    }
+
+    static Map<Operation, Integer> parseMix(String mix) {
+        Map<Operation, Integer> weights = new EnumMap<>(Operation.class);
+        for (String entry : mix.split(",")) {
+            String[] pair = entry.trim().split("=");
+            if (pair.length != 2) {
+                throw new IllegalArgumentException("Invalid benchmark.mix entry: " + entry);
+            }
+            int weight = Integer.parseInt(pair[1].trim());
+            if (weight > 0) {
+                weights.put(Operation.fromKey(pair[0].trim()), weight);
+            }
+        }
+        if (weights.isEmpty()) {
+            throw new IllegalArgumentException("benchmark.mix has no operations");
+        }
+        return weights;
+    }
+}
@@ -0,0 +1,84 @@
+package benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Result of one run, also used as the stored baseline. Records the processor count and platform it ran on, since
+ * throughput and latency only compare between runs on the same hardware.
+ */
+public record BenchmarkReport(
+        String database,
+        String profiles,
+        String jdbcParams,
+        String articleReads,
+        int concurrency,
+        long durationSeconds,
+        int availableProcessors,
+        String platform,
+        Map<String, Long> startupMillis,
+        Map<String, OperationStats> operations) {
+
+    public record OperationStats(
+            long count,
+            long errors,
+            double throughput,
+            double p50Millis,
+            double p90Millis,
+            double p99Millis,
+            double maxMillis) {
+
+        double errorRate() {
+            long total = count + errors;
+            return total == 0 ? 0 : (double) errors / total;
+        }
+    }
+
+    /**
+     * Lists every operation whose throughput dropped, or whose p50/p99 latency grew, by more than
+     * {@code tolerance} against the baseline, plus any operation over the allowed error rate.
+     */
+    public List<String> regressionsAgainst(BenchmarkReport baseline, double tolerance, double maxErrorRate) {
+        List<String> regressions = new ArrayList<>();
+        if (!Objects.equals(baseline.database, database) || !Objects.equals(baseline.profiles, profiles)
+                || !Objects.equals(baseline.jdbcParams, jdbcParams)
+                || !Objects.equals(baseline.articleReads, articleReads)
+                || baseline.concurrency != concurrency || baseline.durationSeconds != durationSeconds
+                || baseline.availableProcessors != availableProcessors
+                || !Objects.equals(baseline.platform, platform)) {
+            regressions.add("baseline was recorded with database=" + baseline.database
+                    + ", profiles=" + baseline.profiles + ", jdbcParams=" + baseline.jdbcParams
+                    + ", articleReads=" + baseline.articleReads
+                    + ", concurrency=" + baseline.concurrency + ", duration=" + baseline.durationSeconds
+                    + "s on " + baseline.availableProcessors + " processors (" + baseline.platform
+                    + "); rerun with the same settings on the same hardware or use another baseline");
+            return regressions;
+        }
+
+        operations.forEach((name, current) -> {
+            if (current.errorRate() > maxErrorRate) {
+                regressions.add(String.format("%s: error rate %.2f%% exceeds %.2f%%",
+                        name, current.errorRate() * 100, maxErrorRate * 100));
+            }
+            OperationStats expected = baseline.operations.get(name);
+            if (expected == null) {
+                return;
+            }
+            if (current.throughput < expected.throughput * (1 - tolerance)) {
+                regressions.add(String.format("%s: throughput %.1f/s < baseline %.1f/s",
+                        name, current.throughput, expected.throughput));
+            }
+            if (current.p50Millis > expected.p50Millis * (1 + tolerance)) {
+                regressions.add(String.format("%s: p50 %.2fms > baseline %.2fms",
+                        name, current.p50Millis, expected.p50Millis));
+            }
+            if (current.p99Millis > expected.p99Millis * (1 + tolerance)) {
+                regressions.add(String.format("%s: p99 %.2fms > baseline %.2fms",
+                        name, current.p99Millis, expected.p99Millis));
+            }
+        });
+        return regressions;
+    }
+}
@@ -0,0 +1,111 @@
+package benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Calls the board API through the gateway, the same way the front end does.
+ */
+public class BoardClient {
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(10);
+
+    private final String gatewayUrl;
+    private final HttpClient httpClient;
+    private final ObjectMapper objectMapper;
+
+    public record Response(int status, JsonNode body) {
+
+        public boolean isSuccess() {
+            return status >= 200 && status < 300;
+        }
+
+        public long dataLong(String field) {
+            return body.path("data").path(field).asLong();
+        }
+
+        public String dataText(String field) {
+            return body.path("data").path(field).asText();
+        }
+    }
+
+    public BoardClient(String gatewayUrl, HttpClient httpClient, ObjectMapper objectMapper) {
+        this.gatewayUrl = gatewayUrl;
+        this.httpClient = httpClient;
+        this.objectMapper = objectMapper;
+    }
+
+    public Response signup(String username, String password, String nickname) throws IOException, InterruptedException {
+        return post("/api/users/register", null,
+                Map.of("username", username, "password", password, "nickname", nickname));
+    }
+
+    public Response login(String username, String password) throws IOException, InterruptedException {
+        return post("/api/users/login", null, Map.of("username", username, "password", password));
+    }
+
+    public Response createArticle(String accessToken, long boardId, String title, String content)
+            throws IOException, InterruptedException {
+        return post("/api/articles/v1/articles", accessToken,
+                Map.of("boardId", boardId, "title", title, "content", content));
+    }
+
+    public Response createComment(String accessToken, long articleId, String content)
+            throws IOException, InterruptedException {
+        return post("/api/comments/v1/comments", accessToken, Map.of("articleId", articleId, "content", content));
+    }
+
+    public Response listArticles(long boardId, int pageSize) throws IOException, InterruptedException {
+        return get("/api/articles/v1/articles?boardId=" + boardId + "&pageSize=" + pageSize);
+    }
+
+    public Response listArticlesWithContent(long boardId, int pageSize) throws IOException, InterruptedException {
+        return get("/api/articles/v1/articles?boardId=" + boardId + "&pageSize=" + pageSize + "&includeContent=true");
+    }
+
+    public Response getArticle(long articleId) throws IOException, InterruptedException {
+        return get("/api/articles/v1/articles/" + articleId);
+    }
+
+    public Response commentTree(long articleId) throws IOException, InterruptedException {
+        return get("/api/comments/v1/comments?articleId=" + articleId);
+    }
+
+    private Response get(String path) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(gatewayUrl + path))
+                .timeout(REQUEST_TIMEOUT)
+                .header("Accept", "application/json")
+                .GET()
+                .build();
+        return send(request);
+    }
+
+    private Response post(String path, String accessToken, Map<String, Object> body)
+            throws IOException, InterruptedException {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(gatewayUrl + path))
+                .timeout(REQUEST_TIMEOUT)
+                .header("Content-Type", "application/json")
+                .header("Accept", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body)));
+        if (accessToken != null) {
+            builder.header("Authorization", "Bearer " + accessToken);
+        }
+        return send(builder.build());
+    }
+
+    private Response send(HttpRequest request) throws IOException, InterruptedException {
+        HttpResponse<byte[]> response = httpClient.send(request, HttpResponse.BodyHandlers.ofByteArray());
+        JsonNode body = response.body().length == 0
+                ? objectMapper.nullNode()
+                : objectMapper.readTree(response.body());
+        return new Response(response.statusCode(), body);
+    }
+}
@@ -0,0 +1,64 @@
+package benchmark;
+
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Raw per-operation latencies. Each worker owns one recorder, so recording never contends;
+ * recorders are merged once the run is over.
+ */
+public class LatencyRecorder {
+
+    private final Map<Operation, long[]> samples = new EnumMap<>(Operation.class);
+    private final Map<Operation, Integer> counts = new EnumMap<>(Operation.class);
+    private final Map<Operation, Long> errors = new EnumMap<>(Operation.class);
+
+    public void record(Operation operation, long latencyNanos) {
+        long[] values = samples.computeIfAbsent(operation, key -> new long[1024]);
+        int count = counts.getOrDefault(operation, 0);
+        if (count == values.length) {
+            values = Arrays.copyOf(values, values.length * 2);
+            samples.put(operation, values);
+        }
+        values[count] = latencyNanos;
+        counts.put(operation, count + 1);
+    }
+
+    public void recordError(Operation operation) {
+        errors.merge(operation, 1L, Long::sum);
+    }
+
+    public void mergeFrom(LatencyRecorder other) {
+        for (Map.Entry<Operation, long[]> entry : other.samples.entrySet()) {
+            int count = other.counts.get(entry.getKey());
+            for (int i = 0; i < count; i++) {
+                record(entry.getKey(), entry.getValue()[i]);
+            }
+        }
+        other.errors.forEach((operation, count) -> errors.merge(operation, count, Long::sum));
+    }
+
+    public BenchmarkReport.OperationStats stats(Operation operation, double seconds) {
+        int count = counts.getOrDefault(operation, 0);
+        long errorCount = errors.getOrDefault(operation, 0L);
+        long[] sorted = Arrays.copyOf(samples.getOrDefault(operation, new long[0]), count);
+        Arrays.sort(sorted);
+        return new BenchmarkReport.OperationStats(
+                count,
+                errorCount,
+                count / seconds,
+                percentileMillis(sorted, 0.50),
+                percentileMillis(sorted, 0.90),
+                percentileMillis(sorted, 0.99),
+                sorted.length == 0 ? 0 : sorted[sorted.length - 1] / 1_000_000.0);
+    }
+
+    private static double percentileMillis(long[] sorted, double percentile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(percentile * sorted.length) - 1;
+        return sorted[Math.max(index, 0)] / 1_000_000.0;
+    }
+}
@@ -0,0 +1,179 @@
+package benchmark;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Closed-loop load: {@code concurrency} virtual-thread workers each pick the next operation from the weighted mix
+ * as soon as the previous one answers. Only requests that start after the warm-up are recorded.
+ */
+public class LoadGenerator {
+
+    private static final long BOARD_ID = 1L;
+    private static final String PASSWORD = "benchmark-password";
+    private static final int ARTICLE_POOL_SIZE = 4096;
+    private static final String ARTICLE_CONTENT = "Benchmark article body. ".repeat(48);
+
+    private final BoardClient client;
+    private final BenchmarkConfig config;
+    private final Operation[] schedule;
+    private final String runId = Long.toString(System.currentTimeMillis(), 36);
+    private final AtomicLong signupSequence = new AtomicLong();
+
+    private final List<String> usernames = new ArrayList<>();
+    private final List<String> accessTokens = new ArrayList<>();
+    private final AtomicLongArray articleIds = new AtomicLongArray(ARTICLE_POOL_SIZE);
+    private final AtomicInteger articleCount = new AtomicInteger();
+
+    public LoadGenerator(BoardClient client, BenchmarkConfig config) {
+        if (config.seedUsers() < 1 || config.seedArticles() < 1) {
+            throw new IllegalArgumentException("benchmark.seed-users and benchmark.seed-articles must be at least 1");
+        }
+        this.client = client;
+        this.config = config;
+        this.schedule = buildSchedule(config.mix());
+    }
+
+    public void seed() throws IOException, InterruptedException {
+        for (int i = 0; i < config.seedUsers(); i++) {
+            String username = "seed-" + runId + "-" + i;
+            require(client.signup(username, PASSWORD, "seed" + i), "seed signup");
+            BoardClient.Response login = require(client.login(username, PASSWORD), "seed login");
+            usernames.add(username);
+            accessTokens.add(login.dataText("accessToken"));
+        }
+        for (int i = 0; i < config.seedArticles(); i++) {
+            BoardClient.Response article = require(
+                    client.createArticle(accessTokens.get(i % accessTokens.size()), BOARD_ID, "seed " + i, ARTICLE_CONTENT),
+                    "seed article");
+            long articleId = article.dataLong("articleId");
+            addArticle(articleId);
+            for (int j = 0; j < 5; j++) {
+                require(client.createComment(accessTokens.get(j % accessTokens.size()), articleId, "seed comment " + j),
+                        "seed comment");
+            }
+        }
+    }
+
+    public BenchmarkReport run(Map<String, Long> startupMillis) throws InterruptedException {
+        long warmupEnds = System.nanoTime() + config.warmup().toNanos();
+        long runEnds = warmupEnds + config.duration().toNanos();
+
+        List<Future<LatencyRecorder>> workers = new ArrayList<>();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < config.concurrency(); i++) {
+                workers.add(executor.submit(() -> work(warmupEnds, runEnds)));
+            }
+        }
+
+        LatencyRecorder merged = new LatencyRecorder();
+        for (Future<LatencyRecorder> worker : workers) {
+            try {
+                merged.mergeFrom(worker.get());
+            } catch (Exception e) {
+                throw new IllegalStateException("Benchmark worker failed", e);
+            }
+        }
+
+        double seconds = config.duration().toMillis() / 1000.0;
+        Map<String, BenchmarkReport.OperationStats> operations = new LinkedHashMap<>();
+        for (Operation operation : config.mix().keySet()) {
+            operations.put(operation.key(), merged.stats(operation, seconds));
+        }
+        return new BenchmarkReport(config.database(), config.profiles(), config.jdbcParams(),
+                config.articleReads(), config.concurrency(), config.duration().toSeconds(),
+                Runtime.getRuntime().availableProcessors(),
+                System.getProperty("os.name") + " " + System.getProperty("os.arch"), startupMillis, operations);
+    }
+
+    private LatencyRecorder work(long warmupEnds, long runEnds) throws InterruptedException {
+        LatencyRecorder recorder = new LatencyRecorder();
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long now;
+        while ((now = System.nanoTime()) < runEnds) {
+            Operation operation = schedule[random.nextInt(schedule.length)];
+            boolean measured = now >= warmupEnds;
+            boolean success;
+            try {
+                success = execute(operation, random);
+            } catch (IOException e) {
+                success = false;
+            }
+            long latency = System.nanoTime() - now;
+            if (!measured) {
+                continue;
+            }
+            if (success) {
+                recorder.record(operation, latency);
+            } else {
+                recorder.recordError(operation);
+            }
+        }
+        return recorder;
+    }
+
+    private boolean execute(Operation operation, ThreadLocalRandom random) throws IOException, InterruptedException {
+        return switch (operation) {
+            case SIGNUP -> client.signup("bench-" + runId + "-" + signupSequence.incrementAndGet(), PASSWORD, "bench")
+                    .isSuccess();
+            case LOGIN -> client.login(usernames.get(random.nextInt(usernames.size())), PASSWORD).isSuccess();
+            case CREATE_ARTICLE -> {
+                BoardClient.Response response = client.createArticle(randomToken(random), BOARD_ID, "bench",
+                        ARTICLE_CONTENT);
+                if (response.isSuccess()) {
+                    addArticle(response.dataLong("articleId"));
+                }
+                yield response.isSuccess();
+            }
+            case CREATE_COMMENT -> client.createComment(randomToken(random), randomArticle(random), "bench comment")
+                    .isSuccess();
+            case LIST_ARTICLES -> client.listArticles(BOARD_ID, 20).isSuccess();
+            case LIST_ARTICLES_WITH_CONTENT -> client.listArticlesWithContent(BOARD_ID, 20).isSuccess();
+            case ARTICLE_DETAIL -> client.getArticle(randomArticle(random)).isSuccess();
+            case COMMENT_TREE -> client.commentTree(randomArticle(random)).isSuccess();
+        };
+    }
+
+    private String randomToken(ThreadLocalRandom random) {
+        return accessTokens.get(random.nextInt(accessTokens.size()));
+    }
+
+    private long randomArticle(ThreadLocalRandom random) {
+        int available = Math.min(articleCount.get(), ARTICLE_POOL_SIZE);
+        return articleIds.get(random.nextInt(available));
+    }
+
+    // Writes the slot before publishing the count, so randomArticle never reads a slot that is still empty
+    private synchronized void addArticle(long articleId) {
+        int count = articleCount.get();
+        articleIds.set(Math.floorMod(count, ARTICLE_POOL_SIZE), articleId);
+        articleCount.set(count + 1);
+    }
+
+    private static BoardClient.Response require(BoardClient.Response response, String step) {
+        if (!response.isSuccess()) {
+            throw new IllegalStateException(step + " failed with HTTP " + response.status() + ": " + response.body());
+        }
+        return response;
+    }
+
+    private static Operation[] buildSchedule(Map<Operation, Integer> mix) {
+        List<Operation> schedule = new ArrayList<>();
+        mix.forEach((operation, weight) -> {
+            for (int i = 0; i < weight; i++) {
+                schedule.add(operation);
+            }
+        });
+        return schedule.toArray(Operation[]::new);
+    }
+}
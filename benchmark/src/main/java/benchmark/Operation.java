@@ -0,0 +1,31 @@
+package benchmark;
+
+import java.util.Arrays;
+
+public enum Operation {
+    SIGNUP("signup"),
+    LOGIN("login"),
+    CREATE_ARTICLE("createArticle"),
+    CREATE_COMMENT("createComment"),
+    LIST_ARTICLES("listArticles"),
+    LIST_ARTICLES_WITH_CONTENT("listArticlesWithContent"),
+    ARTICLE_DETAIL("articleDetail"),
+    COMMENT_TREE("commentTree");
+
+    private final String key;
+
+    Operation(String key) {
+        this.key = key;
+    }
+
+    public String key() {
+        return key;
+    }
+
+    public static Operation fromKey(String key) {
+        return Arrays.stream(values())
+                .filter(operation -> operation.key.equals(key))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Unknown benchmark operation: " + key));
+    }
+}
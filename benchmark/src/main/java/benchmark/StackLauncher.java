@@ -0,0 +1,149 @@
+package benchmark;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Starts user, article, comment and gateway as separate JVMs on their usual ports. With {@code benchmark.database=h2}
+ * each service gets its own in-memory H2 database in MySQL mode; with {@code mysql} the services use their configured
+ * MySQL databases (Flyway migrations, Connector/J URL flags) on {@code benchmark.mysql-host}.
+ * Classpaths come from {@code benchmark.classpath.<module>} system properties.
+ *
+ * <p>With {@code benchmark.article-reads=reactive} a second article instance runs the {@code reactive} profile
+ * on 8084 and the gateway's {@code reactive-reads} profile sends article GETs to it, so the same workload can be
+ * compared against the servlet read path.
+ */
+public class StackLauncher implements AutoCloseable {
+
+    private static final Duration STARTUP_TIMEOUT = Duration.ofSeconds(120);
+
+    private record Service(String name, String module, String mainClass, int port, String database, String profile) {
+    }
+
+    private final BenchmarkConfig config;
+    private final List<Service> services;
+    private final List<Process> processes = new ArrayList<>();
+    private final Map<String, Long> startupMillis = new LinkedHashMap<>();
+
+    public StackLauncher(BenchmarkConfig config) {
+        this.config = config;
+        this.services = services(config.articleReads().equals("reactive"));
+    }
+
+    private static List<Service> services(boolean reactiveReads) {
+        List<Service> services = new ArrayList<>();
+        services.add(new Service("user", "user", "user.UserApplication", 8081, "userdb", null));
+        services.add(new Service("article", "article", "article.ArticleApplication", 8082, "articledb", null));
+        if (reactiveReads) {
+            // Started after the servlet instance so Flyway has already migrated articledb
+            services.add(new Service("article-reactive", "article", "article.ArticleApplication", 8084, "articledb",
+                    "reactive"));
+        }
+        services.add(new Service("comment", "comment", "comment.CommentApplication", 8083, "commentdb", null));
+        services.add(new Service("gateway", "gateway", "gateway.GatewayApplication", 8080, null,
+                reactiveReads ? "reactive-reads" : null));
+        return services;
+    }
+
+    public void start() throws IOException, InterruptedException {
+        Files.createDirectories(config.logDir());
+        for (Service service : services) {
+            long startedAt = System.nanoTime();
+            ProcessBuilder builder = new ProcessBuilder(command(service))
+                    .redirectErrorStream(true)
+                    .redirectOutput(config.logDir().resolve(service.name() + ".log").toFile());
+            builder.environment().put("DB_HOST", config.mysqlHost());
+            Process process = builder.start();
+            processes.add(process);
+            awaitPort(service, process);
+            startupMillis.put(service.name(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt));
+        }
+    }
+
+    public Map<String, Long> startupMillis() {
+        return startupMillis;
+    }
+
+    @Override
+    public void close() {
+        for (Process process : processes.reversed()) {
+            process.destroy();
+        }
+        for (Process process : processes) {
+            try {
+                if (!process.waitFor(10, TimeUnit.SECONDS)) {
+                    process.destroyForcibly();
+                }
+            } catch (InterruptedException e) {
+                process.destroyForcibly();
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private List<String> command(Service service) {
+        String classpath = System.getProperty("benchmark.classpath." + service.module());
+        if (classpath == null) {
+            throw new IllegalStateException("Missing system property benchmark.classpath." + service.module());
+        }
+
+        List<String> command = new ArrayList<>();
+        command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        command.add("-Xmx512m");
+        command.add("-cp");
+        command.add(classpath);
+        command.add(service.mainClass());
+        command.add("--server.port=" + service.port());
+        command.add("--spring.profiles.active=" + config.profiles()
+                + (service.profile() == null ? "" : "," + service.profile()));
+        if (service.database() == null) {
+            command.add("--logging.level.org.springframework.cloud.gateway=INFO");
+            return command;
+        }
+        if (config.database().equals("mysql")) {
+            if (config.jdbcParams() != null) {
+                command.add("--spring.datasource.url=jdbc:mysql://" + config.mysqlHost() + ":3306/"
+                        + service.database() + "?" + config.jdbcParams());
+            }
+            return command;
+        }
+        // Flyway scripts use MySQL-only DDL options, so the schema comes from the entities instead.
+        command.add("--spring.datasource.url=jdbc:h2:mem:" + service.database()
+                + ";MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1");
+        command.add("--spring.datasource.driver-class-name=org.h2.Driver");
+        command.add("--spring.datasource.username=sa");
+        command.add("--spring.datasource.password=");
+        command.add("--spring.jpa.database-platform=org.hibernate.dialect.H2Dialect");
+        command.add("--spring.jpa.hibernate.ddl-auto=create");
+        command.add("--spring.jpa.show-sql=false");
+        command.add("--spring.flyway.enabled=false");
+        return command;
+    }
+
+    private void awaitPort(Service service, Process process) throws InterruptedException {
+        long deadline = System.nanoTime() + STARTUP_TIMEOUT.toNanos();
+        while (System.nanoTime() < deadline) {
+            if (!process.isAlive()) {
+                throw new IllegalStateException(service.name() + " exited during startup, see "
+                        + config.logDir().resolve(service.name() + ".log"));
+            }
+            try (Socket socket = new Socket()) {
+                socket.connect(new InetSocketAddress("localhost", service.port()), 200);
+                return;
+            } catch (IOException e) {
+                Thread.sleep(200);
+            }
+        }
+        throw new IllegalStateException(service.name() + " did not open port " + service.port()
+                + " within " + STARTUP_TIMEOUT.toSeconds() + "s");
+    }
+}
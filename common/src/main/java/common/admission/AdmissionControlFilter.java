@@ -0,0 +1,119 @@
+package common.admission;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import common.dto.ApiResponse;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.UrlPathHelper;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Runs every request through {@link AdmissionController} before it reaches a controller. Safe methods count as
+ * reads, everything else as writes. Requests that cannot be admitted get 503 without touching the database.
+ *
+ * <p>{@code admission.exempt-paths} lists endpoints that do not hold a pooled connection for their work (in-memory
+ * caches, password hashing with its own queue) and so bypass the lanes. Each entry is an Ant-style path, optionally
+ * preceded by an HTTP method, e.g. {@code GET /v1/comments}.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@ConditionalOnProperty(name = "admission.enabled", havingValue = "true")
+public class AdmissionControlFilter extends OncePerRequestFilter {
+
+    private record ExemptPath(HttpMethod method, String pattern) {
+    }
+
+    private final AdmissionController admissionController;
+    private final ObjectMapper objectMapper;
+    private final List<ExemptPath> exemptPaths;
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+    private final UrlPathHelper urlPathHelper = new UrlPathHelper();
+
+    public AdmissionControlFilter(AdmissionController admissionController, ObjectMapper objectMapper,
+            @Value("${admission.exempt-paths:}") String[] exemptPaths) {
+        this.admissionController = admissionController;
+        this.objectMapper = objectMapper;
+        this.exemptPaths = Arrays.stream(exemptPaths)
+                .map(String::trim)
+                .filter(entry -> !entry.isEmpty())
+                .map(AdmissionControlFilter::parseExemptPath)
+                .toList();
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String path = urlPathHelper.getPathWithinApplication(request);
+        for (ExemptPath exempt : exemptPaths) {
+            if ((exempt.method() == null || exempt.method().matches(request.getMethod()))
+                    && pathMatcher.match(exempt.pattern(), path)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        AdmissionController.TrafficClass trafficClass = classify(request);
+        boolean admitted;
+        try {
+            admitted = admissionController.tryAcquire(trafficClass);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            admitted = false;
+        }
+
+        if (!admitted) {
+            reject(response);
+            return;
+        }
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            admissionController.release(trafficClass);
+        }
+    }
+
+    private static ExemptPath parseExemptPath(String entry) {
+        int space = entry.indexOf(' ');
+        if (space < 0) {
+            return new ExemptPath(null, entry);
+        }
+        return new ExemptPath(HttpMethod.valueOf(entry.substring(0, space)), entry.substring(space + 1).trim());
+    }
+
+    private AdmissionController.TrafficClass classify(HttpServletRequest request) {
+        HttpMethod method = HttpMethod.valueOf(request.getMethod());
+        if (HttpMethod.GET.equals(method) || HttpMethod.HEAD.equals(method) || HttpMethod.OPTIONS.equals(method)) {
+            return AdmissionController.TrafficClass.READ;
+        }
+        return AdmissionController.TrafficClass.WRITE;
+    }
+
+    private void reject(HttpServletResponse response) throws IOException {
+        response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, "1");
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(),
+                ApiResponse.error(503, "Server is busy, please retry later"));
+    }
+}
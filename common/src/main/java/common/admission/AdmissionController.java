@@ -0,0 +1,159 @@
+package common.admission;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Limits how many requests run at once, per traffic class and in total. Requests over the limit wait in a bounded
+ * per-class queue; when a slot frees up, waiting reads are admitted before waiting writes. Each class has its own
+ * ceiling, so a write burst can never take the slots reads need and reads can never starve writes completely.
+ *
+ * <p>Lane limits default to the matching {@code datasource.split} pool size, so admitted requests never queue
+ * inside Hikari; the overall limit defaults to the sum of the lanes.
+ */
+@Component
+@ConditionalOnProperty(name = "admission.enabled", havingValue = "true")
+public class AdmissionController {
+
+    // Declaration order is dispatch priority
+    public enum TrafficClass {
+        READ, WRITE
+    }
+
+    private static final class Lane {
+        private final int maxConcurrent;
+        private final int maxQueued;
+        private final long queueTimeoutNanos;
+        private final ArrayDeque<Waiter> waiters = new ArrayDeque<>();
+        private int active;
+
+        private Lane(int maxConcurrent, int maxQueued, long queueTimeoutMillis) {
+            this.maxConcurrent = maxConcurrent;
+            this.maxQueued = maxQueued;
+            this.queueTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(queueTimeoutMillis);
+        }
+    }
+
+    private static final class Waiter {
+        private final Condition admitted;
+        private boolean granted;
+
+        private Waiter(Condition admitted) {
+            this.admitted = admitted;
+        }
+    }
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final int maxConcurrent;
+    private final Map<TrafficClass, Lane> lanes = new EnumMap<>(TrafficClass.class);
+    private int active;
+
+    public AdmissionController(
+            @Value("${admission.max-concurrent:0}") int maxConcurrent,
+            @Value("${admission.read.max-concurrent:${datasource.split.read.maximum-pool-size:10}}")
+            int readMaxConcurrent,
+            @Value("${admission.read.max-queue:256}") int readMaxQueue,
+            @Value("${admission.read.queue-timeout:1000}") long readQueueTimeoutMillis,
+            @Value("${admission.write.max-concurrent:${datasource.split.write.maximum-pool-size:5}}")
+            int writeMaxConcurrent,
+            @Value("${admission.write.max-queue:32}") int writeMaxQueue,
+            @Value("${admission.write.queue-timeout:2000}") long writeQueueTimeoutMillis) {
+        this.maxConcurrent = maxConcurrent > 0 ? maxConcurrent : readMaxConcurrent + writeMaxConcurrent;
+        lanes.put(TrafficClass.READ, new Lane(readMaxConcurrent, readMaxQueue, readQueueTimeoutMillis));
+        lanes.put(TrafficClass.WRITE, new Lane(writeMaxConcurrent, writeMaxQueue, writeQueueTimeoutMillis));
+    }
+
+    /**
+     * @return {@code true} once admitted, {@code false} when the class queue is full or the wait timed out.
+     * An admitted caller must call {@link #release(TrafficClass)}.
+     */
+    public boolean tryAcquire(TrafficClass trafficClass) throws InterruptedException {
+        Lane lane = lanes.get(trafficClass);
+        lock.lock();
+        try {
+            if (lane.waiters.isEmpty() && canAdmit(lane) && !higherPriorityWaiting(trafficClass)) {
+                admit(lane);
+                return true;
+            }
+            if (lane.waiters.size() >= lane.maxQueued) {
+                return false;
+            }
+
+            Waiter waiter = new Waiter(lock.newCondition());
+            lane.waiters.addLast(waiter);
+            long remaining = lane.queueTimeoutNanos;
+            try {
+                while (!waiter.granted) {
+                    if (remaining <= 0) {
+                        lane.waiters.remove(waiter);
+                        return false;
+                    }
+                    remaining = waiter.admitted.awaitNanos(remaining);
+                }
+                return true;
+            } catch (InterruptedException e) {
+                if (waiter.granted) {
+                    releaseLocked(lane);
+                } else {
+                    lane.waiters.remove(waiter);
+                }
+                throw e;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void release(TrafficClass trafficClass) {
+        lock.lock();
+        try {
+            releaseLocked(lanes.get(trafficClass));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void releaseLocked(Lane lane) {
+        lane.active--;
+        active--;
+        for (Lane next : lanes.values()) {
+            while (!next.waiters.isEmpty() && canAdmit(next)) {
+                Waiter waiter = next.waiters.pollFirst();
+                admit(next);
+                waiter.granted = true;
+                waiter.admitted.signal();
+            }
+        }
+    }
+
+    // A higher-priority request that is only waiting for a global slot goes first
+    private boolean higherPriorityWaiting(TrafficClass trafficClass) {
+        for (Map.Entry<TrafficClass, Lane> entry : lanes.entrySet()) {
+            if (entry.getKey() == trafficClass) {
+                return false;
+            }
+            Lane lane = entry.getValue();
+            if (!lane.waiters.isEmpty() && lane.active < lane.maxConcurrent) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean canAdmit(Lane lane) {
+        return lane.active < lane.maxConcurrent && active < maxConcurrent;
+    }
+
+    private void admit(Lane lane) {
+        lane.active++;
+        active++;
+    }
+}
@@ -0,0 +1,21 @@
+package common.config;
+
+import common.util.OptimisticLockRetry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class OptimisticLockConfig {
+
+    @Value("${optimistic-lock.max-attempts:3}")
+    private int maxAttempts;
+
+    @Value("${optimistic-lock.backoff:20}")
+    private long backoffMillis;
+
+    @Bean
+    public OptimisticLockRetry optimisticLockRetry() {
+        return new OptimisticLockRetry(maxAttempts, backoffMillis);
+    }
+}
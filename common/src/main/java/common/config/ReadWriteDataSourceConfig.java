@@ -0,0 +1,57 @@
+package common.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+
+/**
+ * Gives read-only transactions their own Hikari pool so a burst of slow writes cannot use up the connections
+ * reads need. Both pools start from {@code spring.datasource.*} and {@code spring.datasource.hikari.*}, then apply
+ * {@code datasource.split.read.*} / {@code datasource.split.write.*} overrides (pool size, or a replica
+ * {@code jdbc-url}).
+ *
+ * <p>The lazy proxy only fetches a physical connection on the first statement, after the transaction manager has
+ * marked it read-only, so {@code @Transactional(readOnly = true)} work is served from the read pool.
+ */
+@Configuration
+@ConditionalOnProperty(name = "datasource.split.enabled", havingValue = "true")
+public class ReadWriteDataSourceConfig {
+
+    @Bean(destroyMethod = "close")
+    public HikariDataSource writeDataSource(DataSourceProperties properties, Environment environment) {
+        return createPool(properties, environment, "write");
+    }
+
+    @Bean(destroyMethod = "close")
+    public HikariDataSource readDataSource(DataSourceProperties properties, Environment environment) {
+        HikariDataSource dataSource = createPool(properties, environment, "read");
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(HikariDataSource writeDataSource, HikariDataSource readDataSource) {
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(writeDataSource);
+        dataSource.setReadOnlyDataSource(readDataSource);
+        return dataSource;
+    }
+
+    private HikariDataSource createPool(DataSourceProperties properties, Environment environment, String name) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        Binder binder = Binder.get(environment);
+        binder.bind("spring.datasource.hikari", Bindable.ofInstance(dataSource));
+        binder.bind("datasource.split." + name, Bindable.ofInstance(dataSource));
+        dataSource.setPoolName(name + "-pool");
+        return dataSource;
+    }
+}
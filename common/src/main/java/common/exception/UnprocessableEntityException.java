@@ -0,0 +1,8 @@
+package common.exception;
+
+public class UnprocessableEntityException extends RuntimeException {
+
+    public UnprocessableEntityException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,132 @@
+package common.idempotency;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import common.exception.ConflictException;
+import common.exception.UnprocessableEntityException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.DigestUtils;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * Remembers the result of create requests by their {@code Idempotency-Key} so client retries get the original
+ * result without running the write again. Concurrent retries wait for the first attempt instead of racing it.
+ * Keys are scoped to the authenticated principal and bound to a fingerprint of the request body.
+ */
+@Component
+public class IdempotencyStore {
+
+    public static final String HEADER = "Idempotency-Key";
+
+    private final ObjectMapper objectMapper;
+    private final long ttlMillis;
+    private final int maxEntries;
+    private final long waitTimeoutMillis;
+    private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>();
+
+    private record Entry(CompletableFuture<Object> result, String fingerprint, long expiresAt) {
+    }
+
+    public IdempotencyStore(ObjectMapper objectMapper,
+            @Value("${idempotency.ttl:86400000}") long ttlMillis,
+            @Value("${idempotency.max-entries:10000}") int maxEntries,
+            @Value("${idempotency.wait-timeout:5000}") long waitTimeoutMillis) {
+        this.objectMapper = objectMapper;
+        this.ttlMillis = ttlMillis;
+        this.maxEntries = maxEntries;
+        this.waitTimeoutMillis = waitTimeoutMillis;
+    }
+
+    /**
+     * @param principal authenticated caller the key belongs to; without one the action simply runs, since keys from
+     *                  anonymous callers cannot be told apart
+     * @param request   request body, fingerprinted so a key reused with a different body is rejected
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T execute(String scope, String principal, String key, Object request, Supplier<T> action) {
+        if (key == null || key.isBlank() || principal == null) {
+            return action.get();
+        }
+
+        String storeKey = scope + ":" + principal + ":" + key;
+        Entry entry = new Entry(new CompletableFuture<>(), fingerprint(request),
+                System.currentTimeMillis() + ttlMillis);
+        Entry existing;
+        synchronized (entries) {
+            evictExpired();
+            existing = entries.putIfAbsent(storeKey, entry);
+            if (existing == null && entries.size() > maxEntries) {
+                evictEldestCompleted();
+            }
+        }
+
+        if (existing != null) {
+            if (!existing.fingerprint().equals(entry.fingerprint())) {
+                throw new UnprocessableEntityException("Idempotency-Key was already used with a different request");
+            }
+            try {
+                return (T) existing.result().get(waitTimeoutMillis, TimeUnit.MILLISECONDS);
+            } catch (TimeoutException e) {
+                throw new ConflictException("A request with this Idempotency-Key is still in progress");
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new ConflictException("A request with this Idempotency-Key is still in progress");
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof Error error) {
+                    throw error;
+                }
+                throw e.getCause() instanceof RuntimeException cause ? cause : new IllegalStateException(e.getCause());
+            }
+        }
+
+        try {
+            T result = action.get();
+            entry.result().complete(result);
+            return result;
+        } catch (Throwable e) {
+            // Errors too, or waiters would block on a result that never comes and the key would stay taken
+            synchronized (entries) {
+                entries.remove(storeKey, entry);
+            }
+            entry.result().completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    private String fingerprint(Object request) {
+        try {
+            return DigestUtils.md5DigestAsHex(objectMapper.writeValueAsBytes(request));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to fingerprint request", e);
+        }
+    }
+
+    // In-flight entries are kept: dropping one would let a retry run the write a second time.
+    private void evictEldestCompleted() {
+        Iterator<Entry> iterator = entries.values().iterator();
+        while (iterator.hasNext()) {
+            if (iterator.next().result().isDone()) {
+                iterator.remove();
+                return;
+            }
+        }
+    }
+
+    // Entries share one TTL, so insertion order is also expiry order.
+    private void evictExpired() {
+        long now = System.currentTimeMillis();
+        Iterator<Map.Entry<String, Entry>> iterator = entries.entrySet().iterator();
+        while (iterator.hasNext() && iterator.next().getValue().expiresAt() <= now) {
+            iterator.remove();
+        }
+    }
+}
@@ -9,10 +9,13 @@ import org.springframework.stereotype.Component;
 
 import java.security.Key;
 import java.util.Date;
+import java.util.UUID;
 
 @Component
 public class JwtTokenProvider {
 
+    private static final String FAMILY_CLAIM = "fid";
+
     private final Key key;
     private final long accessTokenValidityInMilliseconds;
     private final long refreshTokenValidityInMilliseconds;
@@ -27,15 +30,25 @@ public class JwtTokenProvider {
     }
 
     public String createAccessToken(String username) {
-        return createToken(username, accessTokenValidityInMilliseconds);
+        return createToken(Jwts.claims().setSubject(username), accessTokenValidityInMilliseconds);
     }
 
     public String createRefreshToken(String username) {
-        return createToken(username, refreshTokenValidityInMilliseconds);
+        return createRefreshToken(username, UUID.randomUUID().toString());
+    }
+
+    // Every refresh token gets its own id; rotated tokens share the family id of the login that started the chain.
+    public String createRefreshToken(String username, String familyId) {
+        Claims claims = Jwts.claims().setSubject(username).setId(UUID.randomUUID().toString());
+        claims.put(FAMILY_CLAIM, familyId);
+        return createToken(claims, refreshTokenValidityInMilliseconds);
     }
 
-    private String createToken(String username, long validity) {
-        Claims claims = Jwts.claims().setSubject(username);
+    public long getRefreshTokenValidityInMilliseconds() {
+        return refreshTokenValidityInMilliseconds;
+    }
+
+    private String createToken(Claims claims, long validity) {
         Date now = new Date();
         Date validityDate = new Date(now.getTime() + validity);
 
@@ -51,6 +64,21 @@ public class JwtTokenProvider {
         return Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token).getBody().getSubject();
     }
 
+    public RefreshTokenClaims parseRefreshToken(String token) {
+        Claims claims;
+        try {
+            claims = Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token).getBody();
+        } catch (Exception e) {
+            throw new IllegalArgumentException("Invalid refresh token");
+        }
+
+        String familyId = claims.get(FAMILY_CLAIM, String.class);
+        if (claims.getId() == null || familyId == null) {
+            throw new IllegalArgumentException("Invalid refresh token");
+        }
+        return new RefreshTokenClaims(claims.getSubject(), claims.getId(), familyId, claims.getExpiration().getTime());
+    }
+
     public boolean validateToken(String token) {
         try {
             Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token);
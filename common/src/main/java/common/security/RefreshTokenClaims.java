@@ -0,0 +1,4 @@
+package common.security;
+
+public record RefreshTokenClaims(String username, String tokenId, String familyId, long expiresAt) {
+}
@@ -0,0 +1,33 @@
+package common.util;
+
+import common.exception.PreconditionFailedException;
+
+public final class ETags {
+
+    private ETags() {
+    }
+
+    public static String fromVersion(Long version) {
+        return "\"" + version + "\"";
+    }
+
+    /**
+     * @return the entity version an {@code If-Match} header asks for, or {@code null} when the header is absent
+     * or {@code *}
+     */
+    public static Long parseVersion(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) {
+            return null;
+        }
+        String value = ifMatch.trim();
+        if (value.startsWith("W/")) {
+            value = value.substring(2);
+        }
+        value = value.replace("\"", "");
+        try {
+            return Long.valueOf(value);
+        } catch (NumberFormatException e) {
+            throw new PreconditionFailedException("Invalid If-Match header");
+        }
+    }
+}
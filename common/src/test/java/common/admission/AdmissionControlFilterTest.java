@@ -0,0 +1,67 @@
+package common.admission;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import common.admission.AdmissionController.TrafficClass;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AdmissionControlFilterTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    // One read and one write slot, no queue
+    private final AdmissionController controller = new AdmissionController(0, 1, 0, 1_000, 1, 0, 1_000);
+    private final AdmissionControlFilter filter = new AdmissionControlFilter(controller, objectMapper,
+            new String[] {"GET /v1/comments", " /v1/auth/login "});
+
+    @Test
+    void rejectedRequestGets503WithRetryAfter() throws Exception {
+        assertThat(controller.tryAcquire(TrafficClass.READ)).isTrue();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+
+        filter.doFilter(new MockHttpServletRequest("GET", "/v1/articles"), response, chain);
+
+        assertThat(chain.getRequest()).isNull();
+        assertThat(response.getStatus()).isEqualTo(503);
+        assertThat(response.getHeader(HttpHeaders.RETRY_AFTER)).isEqualTo("1");
+        JsonNode body = objectMapper.readTree(response.getContentAsByteArray());
+        assertThat(body.get("success").asBoolean()).isFalse();
+        assertThat(body.get("code").asInt()).isEqualTo(503);
+        assertThat(body.get("message").asText()).isEqualTo("Server is busy, please retry later");
+    }
+
+    @Test
+    void admittedRequestReleasesItsSlot() throws Exception {
+        MockFilterChain chain = new MockFilterChain();
+
+        filter.doFilter(new MockHttpServletRequest("POST", "/v1/articles"), new MockHttpServletResponse(), chain);
+
+        assertThat(chain.getRequest()).isNotNull();
+        assertThat(controller.tryAcquire(TrafficClass.WRITE)).isTrue();
+    }
+
+    @Test
+    void exemptPathsBypassAdmissionForTheirMethodOnly() throws Exception {
+        assertThat(controller.tryAcquire(TrafficClass.READ)).isTrue();
+        assertThat(controller.tryAcquire(TrafficClass.WRITE)).isTrue();
+
+        MockFilterChain treeChain = new MockFilterChain();
+        filter.doFilter(new MockHttpServletRequest("GET", "/v1/comments"), new MockHttpServletResponse(), treeChain);
+        assertThat(treeChain.getRequest()).isNotNull();
+
+        MockFilterChain loginChain = new MockFilterChain();
+        filter.doFilter(new MockHttpServletRequest("POST", "/v1/auth/login"), new MockHttpServletResponse(),
+                loginChain);
+        assertThat(loginChain.getRequest()).isNotNull();
+
+        MockHttpServletResponse createResponse = new MockHttpServletResponse();
+        filter.doFilter(new MockHttpServletRequest("POST", "/v1/comments"), createResponse, new MockFilterChain());
+        assertThat(createResponse.getStatus()).isEqualTo(503);
+    }
+}
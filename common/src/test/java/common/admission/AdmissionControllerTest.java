@@ -0,0 +1,72 @@
+package common.admission;
+
+import common.admission.AdmissionController.TrafficClass;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AdmissionControllerTest {
+
+    @Test
+    void waitingReadIsAdmittedBeforeWaitingWrite() throws Exception {
+        // One global slot, so the read and the write queued behind it compete for the same release
+        AdmissionController controller = new AdmissionController(1, 1, 8, 5_000, 1, 8, 5_000);
+        assertThat(controller.tryAcquire(TrafficClass.WRITE)).isTrue();
+
+        CompletableFuture<Boolean> write = new CompletableFuture<>();
+        Thread writer = waitFor(controller, TrafficClass.WRITE, write);
+        CompletableFuture<Boolean> read = new CompletableFuture<>();
+        Thread reader = waitFor(controller, TrafficClass.READ, read);
+
+        controller.release(TrafficClass.WRITE);
+        assertThat(read.get(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(write).isNotDone();
+
+        controller.release(TrafficClass.READ);
+        assertThat(write.get(5, TimeUnit.SECONDS)).isTrue();
+        reader.join();
+        writer.join();
+    }
+
+    @Test
+    void queuedRequestGivesUpAfterQueueTimeout() throws InterruptedException {
+        AdmissionController controller = new AdmissionController(0, 1, 8, 50, 1, 8, 50);
+        assertThat(controller.tryAcquire(TrafficClass.READ)).isTrue();
+
+        long started = System.nanoTime();
+        assertThat(controller.tryAcquire(TrafficClass.READ)).isFalse();
+        assertThat(System.nanoTime() - started).isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(50));
+    }
+
+    @Test
+    void fullQueueRejectsImmediately() throws InterruptedException {
+        AdmissionController controller = new AdmissionController(0, 1, 0, 5_000, 1, 0, 5_000);
+        assertThat(controller.tryAcquire(TrafficClass.READ)).isTrue();
+
+        long started = System.nanoTime();
+        assertThat(controller.tryAcquire(TrafficClass.READ)).isFalse();
+        assertThat(System.nanoTime() - started).isLessThan(TimeUnit.SECONDS.toNanos(1));
+        // The write lane is separate and still has room
+        assertThat(controller.tryAcquire(TrafficClass.WRITE)).isTrue();
+    }
+
+    // Returns once the thread is parked in the queue
+    private static Thread waitFor(AdmissionController controller, TrafficClass trafficClass,
+            CompletableFuture<Boolean> result) throws InterruptedException {
+        Thread thread = new Thread(() -> {
+            try {
+                result.complete(controller.tryAcquire(trafficClass));
+            } catch (InterruptedException e) {
+                result.completeExceptionally(e);
+            }
+        });
+        thread.start();
+        while (thread.getState() != Thread.State.TIMED_WAITING) {
+            Thread.sleep(1);
+        }
+        return thread;
+    }
+}
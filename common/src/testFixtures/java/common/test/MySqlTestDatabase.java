@@ -0,0 +1,110 @@
+package common.test;
+
+import org.flywaydb.core.Flyway;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.testcontainers.containers.MySQLContainer;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * One MySQL 8.0 container shared by every test in the JVM, started on first use. Every connection is made as root,
+ * so tests can create a database of their own. Test classes should carry
+ * {@code @Testcontainers(disabledWithoutDocker = true)} so they are skipped, not failed, without Docker.
+ */
+public final class MySqlTestDatabase {
+
+    private static MySQLContainer<?> container;
+
+    private MySqlTestDatabase() {
+    }
+
+    private static synchronized MySQLContainer<?> container() {
+        if (container == null) {
+            MySQLContainer<?> mysql = new MySQLContainer<>("mysql:8.0").withUsername("root");
+            mysql.start();
+            container = mysql;
+        }
+        return container;
+    }
+
+    /**
+     * @return JDBC URL of a new, empty database; one left by an earlier run with the same name is dropped first
+     */
+    public static String createDatabase(String name) throws SQLException {
+        MySQLContainer<?> mysql = container();
+        try (Connection connection = connect(mysql.getJdbcUrl()); Statement statement = connection.createStatement()) {
+            statement.execute("DROP DATABASE IF EXISTS " + name);
+            statement.execute("CREATE DATABASE " + name);
+        }
+        return mysql.getJdbcUrl().replace("/" + mysql.getDatabaseName(), "/" + name);
+    }
+
+    public static Connection connect(String url) throws SQLException {
+        return DriverManager.getConnection(url, container().getUsername(), container().getPassword());
+    }
+
+    /**
+     * Points the Boot datasource at {@code url} and records the SQL Hibernate prepares with {@link SqlCapture}.
+     */
+    public static void registerDataSource(DynamicPropertyRegistry registry, String url) {
+        registry.add("spring.datasource.url", () -> url);
+        registry.add("spring.datasource.username", () -> container().getUsername());
+        registry.add("spring.datasource.password", () -> container().getPassword());
+        registry.add("spring.jpa.properties.hibernate.session_factory.statement_inspector", SqlCapture.class::getName);
+    }
+
+    // Same baseline settings as the services' spring.flyway configuration
+    public static void migrate(String url) {
+        Flyway.configure()
+                .dataSource(url, container().getUsername(), container().getPassword())
+                .baselineOnMigrate(true)
+                .baselineVersion("1")
+                .load()
+                .migrate();
+    }
+
+    public static void analyze(Connection connection, String table) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("ANALYZE TABLE " + table);
+        }
+    }
+
+    /**
+     * EXPLAINs {@code sql} with {@code params} bound in order and asserts that the first table is read through
+     * {@code index} without a filesort.
+     */
+    public static void assertUsesIndex(Connection connection, String index, String sql, Object... params)
+            throws SQLException {
+        assertThat(sql.chars().filter(c -> c == '?').count()).as("parameters of %s", sql).isEqualTo(params.length);
+        try (PreparedStatement statement = connection.prepareStatement("EXPLAIN " + sql)) {
+            for (int i = 0; i < params.length; i++) {
+                statement.setObject(i + 1, params[i]);
+            }
+            try (ResultSet resultSet = statement.executeQuery()) {
+                resultSet.next();
+                assertThat(resultSet.getString("key")).as(sql).isEqualTo(index);
+                assertThat(resultSet.getString("Extra")).as(sql).doesNotContain("Using filesort");
+            }
+        }
+    }
+
+    public static void assertIndexExists(Connection connection, String table, String index) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement("""
+                SELECT COUNT(*) FROM information_schema.statistics
+                WHERE table_schema = DATABASE() AND table_name = ? AND index_name = ?""")) {
+            statement.setString(1, table);
+            statement.setString(2, index);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                resultSet.next();
+                assertThat(resultSet.getInt(1)).as("%s.%s", table, index).isPositive();
+            }
+        }
+    }
+}
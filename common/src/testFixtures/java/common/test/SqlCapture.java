@@ -0,0 +1,33 @@
+package common.test;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Records every statement Hibernate prepares, so a test can EXPLAIN exactly the SQL a repository method sends.
+ * Hibernate instantiates the inspector itself, hence the static buffer.
+ */
+public class SqlCapture implements StatementInspector {
+
+    private static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+    @Override
+    public String inspect(String sql) {
+        STATEMENTS.add(sql);
+        return sql;
+    }
+
+    /**
+     * @return the one statement {@code action} prepared
+     */
+    public static String single(Runnable action) {
+        STATEMENTS.clear();
+        action.run();
+        assertThat(STATEMENTS).as("statements prepared").hasSize(1);
+        return STATEMENTS.get(0);
+    }
+}
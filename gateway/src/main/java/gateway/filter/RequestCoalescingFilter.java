@@ -0,0 +1,136 @@
+package gateway.filter;
+
+import org.reactivestreams.Publisher;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.cloud.gateway.filter.NettyWriteResponseFilter;
+import org.springframework.core.Ordered;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.http.server.reactive.ServerHttpResponseDecorator;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Collapses identical anonymous GETs that arrive while the same request is already being proxied: the first one
+ * goes upstream and every duplicate waits for its response instead of opening another upstream call.
+ * If the first call fails or returns no body, the waiters are proxied on their own.
+ */
+@Component
+public class RequestCoalescingFilter implements GlobalFilter, Ordered {
+
+    private final boolean enabled;
+    private final List<String> pathPrefixes;
+    private final Map<String, Mono<CachedResponse>> inFlight = new ConcurrentHashMap<>();
+
+    private record CachedResponse(HttpStatusCode status, HttpHeaders headers, byte[] body) {
+    }
+
+    public RequestCoalescingFilter(
+            @Value("${gateway.coalescing.enabled:true}") boolean enabled,
+            @Value("${gateway.coalescing.path-prefixes:/api/articles/,/api/comments/}") List<String> pathPrefixes) {
+        this.enabled = enabled;
+        this.pathPrefixes = pathPrefixes;
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        ServerHttpRequest request = exchange.getRequest();
+        if (!isCoalescable(request)) {
+            return chain.filter(exchange);
+        }
+
+        String key = coalescingKey(request);
+        Sinks.One<CachedResponse> sink = Sinks.one();
+        Mono<CachedResponse> shared = sink.asMono();
+        Mono<CachedResponse> leader = inFlight.putIfAbsent(key, shared);
+
+        if (leader != null) {
+            return leader.map(Optional::of)
+                    .defaultIfEmpty(Optional.empty())
+                    .onErrorReturn(Optional.empty())
+                    .flatMap(cached -> cached.isPresent()
+                            ? write(exchange.getResponse(), cached.get())
+                            : chain.filter(exchange));
+        }
+
+        ServerHttpResponseDecorator capturing = new ServerHttpResponseDecorator(exchange.getResponse()) {
+            @Override
+            public Mono<Void> writeWith(Publisher<? extends DataBuffer> body) {
+                return DataBufferUtils.join(Flux.from(body)).flatMap(joined -> {
+                    byte[] bytes = new byte[joined.readableByteCount()];
+                    joined.read(bytes);
+                    DataBufferUtils.release(joined);
+
+                    HttpHeaders headers = new HttpHeaders();
+                    headers.addAll(getHeaders());
+                    if (inFlight.remove(key, shared)) {
+                        sink.tryEmitValue(new CachedResponse(getStatusCode(), headers, bytes));
+                    }
+                    return super.writeWith(Mono.just(bufferFactory().wrap(bytes)));
+                });
+            }
+
+            @Override
+            public Mono<Void> writeAndFlushWith(Publisher<? extends Publisher<? extends DataBuffer>> body) {
+                return writeWith(Flux.from(body).flatMapSequential(part -> part));
+            }
+        };
+
+        return chain.filter(exchange.mutate().response(capturing).build())
+                .doFinally(signal -> {
+                    if (inFlight.remove(key, shared)) {
+                        sink.tryEmitEmpty();
+                    }
+                });
+    }
+
+    private boolean isCoalescable(ServerHttpRequest request) {
+        if (!enabled || request.getMethod() != HttpMethod.GET) {
+            return false;
+        }
+        HttpHeaders headers = request.getHeaders();
+        if (headers.containsKey(HttpHeaders.AUTHORIZATION) || headers.containsKey(HttpHeaders.COOKIE)) {
+            return false;
+        }
+        String path = request.getPath().value();
+        return pathPrefixes.stream().anyMatch(path::startsWith);
+    }
+
+    // Headers that change the upstream response are part of the key so every waiter gets what it asked for.
+    private String coalescingKey(ServerHttpRequest request) {
+        HttpHeaders headers = request.getHeaders();
+        return request.getURI().getRawPath()
+                + "?" + request.getURI().getRawQuery()
+                + "|" + headers.getFirst(HttpHeaders.ACCEPT)
+                + "|" + headers.getFirst(HttpHeaders.ACCEPT_ENCODING)
+                + "|" + headers.getFirst(HttpHeaders.IF_NONE_MATCH);
+    }
+
+    private Mono<Void> write(ServerHttpResponse response, CachedResponse cached) {
+        response.setStatusCode(cached.status());
+        response.getHeaders().putAll(cached.headers());
+        response.getHeaders().remove(HttpHeaders.TRANSFER_ENCODING);
+        response.getHeaders().setContentLength(cached.body().length);
+        return response.writeWith(Mono.just(response.bufferFactory().wrap(cached.body())));
+    }
+
+    @Override
+    public int getOrder() {
+        return NettyWriteResponseFilter.WRITE_RESPONSE_FILTER_ORDER - 1;
+    }
+}
@@ -0,0 +1,98 @@
+package gateway.filter;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RequestCoalescingFilterTest {
+
+    private static final String PATH = "/api/articles/v1/articles/1";
+
+    private final RequestCoalescingFilter filter = new RequestCoalescingFilter(true, List.of("/api/articles/"));
+    private final AtomicInteger upstreamCalls = new AtomicInteger();
+    // Holds every upstream call open until the test releases it, so later requests arrive while one is in flight
+    private final Sinks.Empty<Void> upstreamGate = Sinks.empty();
+
+    @Test
+    void duplicateGetWaitsForTheInFlightResponse() throws Exception {
+        MockServerWebExchange first = MockServerWebExchange.from(MockServerHttpRequest.get(PATH));
+        MockServerWebExchange second = MockServerWebExchange.from(MockServerHttpRequest.get(PATH));
+
+        CompletableFuture<Void> firstDone = filter.filter(first, upstream("article")).toFuture();
+        CompletableFuture<Void> secondDone = filter.filter(second, upstream("article")).toFuture();
+        upstreamGate.tryEmitEmpty();
+        firstDone.get(5, TimeUnit.SECONDS);
+        secondDone.get(5, TimeUnit.SECONDS);
+
+        assertThat(upstreamCalls).hasValue(1);
+        assertThat(second.getResponse().getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(second.getResponse().getHeaders().getContentType()).isEqualTo(MediaType.APPLICATION_JSON);
+        assertThat(second.getResponse().getBodyAsString().block()).isEqualTo("article");
+        assertThat(first.getResponse().getBodyAsString().block()).isEqualTo("article");
+    }
+
+    @Test
+    void requestsWithCredentialsOrDifferentAcceptGoUpstreamSeparately() throws Exception {
+        MockServerWebExchange anonymous = MockServerWebExchange.from(MockServerHttpRequest.get(PATH));
+        MockServerWebExchange authorized = MockServerWebExchange.from(MockServerHttpRequest.get(PATH)
+                .header(HttpHeaders.AUTHORIZATION, "Bearer token"));
+        MockServerWebExchange cbor = MockServerWebExchange.from(MockServerHttpRequest.get(PATH)
+                .header(HttpHeaders.ACCEPT, "application/cbor"));
+
+        CompletableFuture<Void> anonymousDone = filter.filter(anonymous, upstream("article")).toFuture();
+        CompletableFuture<Void> authorizedDone = filter.filter(authorized, upstream("article")).toFuture();
+        CompletableFuture<Void> cborDone = filter.filter(cbor, upstream("article")).toFuture();
+        upstreamGate.tryEmitEmpty();
+        CompletableFuture.allOf(anonymousDone, authorizedDone, cborDone).get(5, TimeUnit.SECONDS);
+
+        assertThat(upstreamCalls).hasValue(3);
+    }
+
+    @Test
+    void waiterIsProxiedOnItsOwnWhenTheFirstCallFails() throws Exception {
+        GatewayFilterChain failingOnce = exchange -> upstreamCalls.incrementAndGet() == 1
+                ? upstreamGate.asMono().then(Mono.error(new IllegalStateException("upstream down")))
+                : respond(exchange, "article");
+        MockServerWebExchange first = MockServerWebExchange.from(MockServerHttpRequest.get(PATH));
+        MockServerWebExchange second = MockServerWebExchange.from(MockServerHttpRequest.get(PATH));
+
+        CompletableFuture<Void> firstDone = filter.filter(first, failingOnce).toFuture();
+        CompletableFuture<Void> secondDone = filter.filter(second, failingOnce).toFuture();
+        upstreamGate.tryEmitEmpty();
+        secondDone.get(5, TimeUnit.SECONDS);
+
+        assertThat(firstDone).isCompletedExceptionally();
+        assertThat(upstreamCalls).hasValue(2);
+        assertThat(second.getResponse().getBodyAsString().block()).isEqualTo("article");
+    }
+
+    private GatewayFilterChain upstream(String body) {
+        return exchange -> {
+            upstreamCalls.incrementAndGet();
+            return upstreamGate.asMono().then(Mono.defer(() -> respond(exchange, body)));
+        };
+    }
+
+    private static Mono<Void> respond(ServerWebExchange exchange, String body) {
+        ServerHttpResponse response = exchange.getResponse();
+        response.setStatusCode(HttpStatus.OK);
+        response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+        return response.writeWith(Mono.just(response.bufferFactory().wrap(body.getBytes(StandardCharsets.UTF_8))));
+    }
+}
@@ -0,0 +1,45 @@
+package article.client;
+
+import common.dto.ApiResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClient;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Component
+public class CommentClient {
+
+    private final RestClient restClient;
+
+    public record UserComment(Long commentId, Long articleId, String content, LocalDateTime createdAt) {
+    }
+
+    public CommentClient(
+            @Value("${comment-service.url:http://localhost:8083}") String baseUrl,
+            @Value("${comment-service.timeout:2000}") int timeoutMillis) {
+        SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
+        requestFactory.setConnectTimeout(timeoutMillis);
+        requestFactory.setReadTimeout(timeoutMillis);
+        this.restClient = RestClient.builder()
+                .baseUrl(baseUrl)
+                .requestFactory(requestFactory)
+                .build();
+    }
+
+    public List<UserComment> getUserComments(Long userId, int pageSize, Long lastCommentId) {
+        ApiResponse<List<UserComment>> response = restClient.get()
+                .uri(uriBuilder -> uriBuilder.path("/v1/comments/users/{userId}")
+                        .queryParam("pageSize", pageSize)
+                        .queryParamIfPresent("lastCommentId", Optional.ofNullable(lastCommentId))
+                        .build(userId))
+                .retrieve()
+                .body(new ParameterizedTypeReference<ApiResponse<List<UserComment>>>() {
+                });
+        return response != null && response.getData() != null ? response.getData() : List.of();
+    }
+}
@@ -0,0 +1,43 @@
+package article.controller;
+
+import article.dto.ActivityResponse;
+import article.service.ActivityService;
+import common.dto.ApiResponse;
+import common.security.JwtTokenProvider;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@Profile("!reactive")
+@RequestMapping("/v1/activities")
+@RequiredArgsConstructor
+public class ActivityController {
+
+    private final ActivityService activityService;
+    private final JwtTokenProvider jwtTokenProvider;
+
+    private record UserInfo(Long userId, String nickname) {
+    }
+
+    private UserInfo resolveUser(String authHeader) {
+        if (authHeader == null || !authHeader.startsWith("Bearer ")) {
+            return new UserInfo(1L, "테스트사용자");
+        }
+        String token = authHeader.substring(7);
+        String username = jwtTokenProvider.getUsername(token);
+        return new UserInfo(1L, username);
+    }
+
+    @GetMapping
+    public ApiResponse<List<ActivityResponse>> getMyActivities(
+            @RequestHeader(value = "Authorization", required = false) String authHeader,
+            @RequestParam(defaultValue = "10") int pageSize,
+            @RequestParam(required = false) Long lastActivityId) {
+        UserInfo user = resolveUser(authHeader);
+        List<ActivityResponse> responses = activityService.getActivities(user.userId(), pageSize, lastActivityId);
+        return ApiResponse.ok(responses);
+    }
+}
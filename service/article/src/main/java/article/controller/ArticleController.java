@@ -4,75 +4,92 @@ import article.dto.ArticleRequest;
 import article.dto.ArticleResponse;
 import article.service.ArticleService;
 import common.dto.ApiResponse;
+import common.idempotency.IdempotencyStore;
 import common.security.JwtTokenProvider;
+import common.util.ETags;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
 import java.util.Map;
 
 @RestController
+@Profile("!reactive")
 @RequestMapping("/v1/articles")
 @RequiredArgsConstructor
 public class ArticleController {
 
     private final ArticleService articleService;
     private final JwtTokenProvider jwtTokenProvider;
+    private final IdempotencyStore idempotencyStore;
 
-    private record UserInfo(Long userId, String nickname) {
+    // username is the authenticated principal from the token, null for anonymous callers
+    private record UserInfo(Long userId, String nickname, String username) {
     }
 
     private UserInfo resolveUser(String authHeader) {
         if (authHeader == null || !authHeader.startsWith("Bearer ")) {
-            return new UserInfo(1L, "테스트사용자");
+            return new UserInfo(1L, "테스트사용자", null);
         }
         String token = authHeader.substring(7);
         String username = jwtTokenProvider.getUsername(token);
         // In MSA, we would call User service here. For now, mock it.
-        return new UserInfo(1L, username);
+        return new UserInfo(1L, username, username);
     }
 
     @PostMapping
     public ApiResponse<Map<String, Long>> createArticle(
             @RequestHeader(value = "Authorization", required = false) String authHeader,
+            @RequestHeader(value = IdempotencyStore.HEADER, required = false) String idempotencyKey,
             @Valid @RequestBody ArticleRequest request) {
         UserInfo user = resolveUser(authHeader);
-        Long articleId = articleService.createArticle(user.userId(), user.nickname(), request);
+        Long articleId = idempotencyStore.execute("article", user.username(), idempotencyKey, request,
+                () -> articleService.createArticle(user.userId(), user.nickname(), request));
         return ApiResponse.created(Map.of("articleId", articleId));
     }
 
     @GetMapping("/{articleId}")
-    public ApiResponse<ArticleResponse> getArticle(@PathVariable Long articleId) {
+    public ResponseEntity<ApiResponse<ArticleResponse>> getArticle(@PathVariable Long articleId) {
         ArticleResponse response = articleService.getArticle(articleId);
-        return ApiResponse.ok(response);
+        return ResponseEntity.ok()
+                .eTag(ETags.fromVersion(response.getVersion()))
+                .body(ApiResponse.ok(response));
     }
 
     @GetMapping
     public ApiResponse<List<ArticleResponse>> getArticles(
             @RequestParam Long boardId,
             @RequestParam(defaultValue = "10") int pageSize,
-            @RequestParam(required = false) Long lastArticleId) {
-        List<ArticleResponse> responses = articleService.getArticles(boardId, pageSize, lastArticleId);
+            @RequestParam(required = false) Long lastArticleId,
+            @RequestParam(defaultValue = "false") boolean includeContent) {
+        List<ArticleResponse> responses = articleService.getArticles(boardId, pageSize, lastArticleId, includeContent);
         return ApiResponse.ok(responses);
     }
 
     @PutMapping("/{articleId}")
-    public ApiResponse<Map<String, Long>> updateArticle(
+    public ResponseEntity<ApiResponse<Map<String, Long>>> updateArticle(
             @RequestHeader(value = "Authorization", required = false) String authHeader,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
             @PathVariable Long articleId,
             @Valid @RequestBody ArticleRequest request) {
         UserInfo user = resolveUser(authHeader);
-        Long updatedId = articleService.updateArticle(user.userId(), articleId, request);
-        return ApiResponse.ok(Map.of("articleId", updatedId));
+        Long version = articleService.updateArticle(user.userId(), articleId, request, ETags.parseVersion(ifMatch));
+        return ResponseEntity.ok()
+                .eTag(ETags.fromVersion(version))
+                .body(ApiResponse.ok(Map.of("articleId", articleId)));
     }
 
     @DeleteMapping("/{articleId}")
     public ApiResponse<Void> deleteArticle(
             @RequestHeader(value = "Authorization", required = false) String authHeader,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
             @PathVariable Long articleId) {
         UserInfo user = resolveUser(authHeader);
-        articleService.deleteArticle(user.userId(), articleId);
+        articleService.deleteArticle(user.userId(), articleId, ETags.parseVersion(ifMatch));
         return ApiResponse.ok(null);
     }
 }
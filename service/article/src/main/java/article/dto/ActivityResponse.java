@@ -0,0 +1,43 @@
+package article.dto;
+
+import article.client.CommentClient;
+import article.model.Article;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ActivityResponse {
+    private String type;
+    private Long id;
+    private Long articleId;
+    private String title;
+    private String content;
+    private LocalDateTime createdAt;
+
+    public static ActivityResponse from(Article article) {
+        return ActivityResponse.builder()
+                .type("ARTICLE")
+                .id(article.getId())
+                .articleId(article.getId())
+                .title(article.getTitle())
+                .createdAt(article.getCreatedAt())
+                .build();
+    }
+
+    public static ActivityResponse from(CommentClient.UserComment comment) {
+        return ActivityResponse.builder()
+                .type("COMMENT")
+                .id(comment.commentId())
+                .articleId(comment.articleId())
+                .content(comment.content())
+                .createdAt(comment.createdAt())
+                .build();
+    }
+}
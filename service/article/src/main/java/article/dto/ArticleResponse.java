@@ -1,6 +1,7 @@
 package article.dto;
 
 import article.model.Article;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -16,18 +17,25 @@ public class ArticleResponse {
     private Long articleId;
     private Long boardId;
     private String title;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
     private String content;
     private String writerNickname;
     private LocalDateTime createdAt;
+    private Long version;
 
-    public static ArticleResponse from(Article article) {
+    public static ArticleResponse from(Article article, String content) {
         return ArticleResponse.builder()
                 .articleId(article.getId())
                 .boardId(article.getBoardId())
                 .title(article.getTitle())
-                .content(article.getContent())
+                .content(content)
                 .writerNickname(article.getWriterNickname())
                 .createdAt(article.getCreatedAt())
+                .version(article.getVersion())
                 .build();
     }
+
+    public static ArticleResponse summary(Article article) {
+        return from(article, null);
+    }
 }
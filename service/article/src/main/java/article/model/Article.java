@@ -27,9 +27,6 @@ public class Article {
     @Column(nullable = false)
     private String title;
 
-    @Column(nullable = false, columnDefinition = "TEXT")
-    private String content;
-
     @Column(nullable = false)
     private Long userId;
 
@@ -43,18 +40,19 @@ public class Article {
     @LastModifiedDate
     private LocalDateTime updatedAt;
 
+    @Version
+    private Long version;
+
     @Builder
-    public Article(Long id, Long boardId, String title, String content, Long userId, String writerNickname) {
+    public Article(Long id, Long boardId, String title, Long userId, String writerNickname) {
         this.id = id;
         this.boardId = boardId;
         this.title = title;
-        this.content = content;
         this.userId = userId;
         this.writerNickname = writerNickname;
     }
 
-    public void update(String title, String content) {
+    public void update(String title) {
         this.title = title;
-        this.content = content;
     }
 }
@@ -0,0 +1,90 @@
+package article.model;
+
+import common.util.ContentCompressor;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Persistable;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Article body kept apart from {@link Article} so list and metadata queries never read it.
+ * Bodies above {@link #COMPRESSION_THRESHOLD} bytes are stored deflated. The id is the article's, so
+ * {@link Persistable} tells Spring Data a new row apart without the SELECT {@code merge} would run.
+ */
+@Entity
+@Table(name = "article_contents")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ArticleContent implements Persistable<Long> {
+
+    private static final int COMPRESSION_THRESHOLD = 512;
+
+    @Id
+    @Column(name = "article_id")
+    private Long articleId;
+
+    @Column(nullable = false, columnDefinition = "MEDIUMBLOB")
+    private byte[] body;
+
+    @Column(nullable = false)
+    private boolean compressed;
+
+    @Transient
+    private boolean isNew = true;
+
+    public ArticleContent(Long articleId, String text) {
+        this.articleId = articleId;
+        write(text);
+    }
+
+    @Override
+    public Long getId() {
+        return articleId;
+    }
+
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.isNew = false;
+    }
+
+    public String getText() {
+        return decode(body, compressed);
+    }
+
+    public void update(String text) {
+        write(text);
+    }
+
+    public static String decode(byte[] body, boolean compressed) {
+        return compressed ? ContentCompressor.decompress(body) : new String(body, StandardCharsets.UTF_8);
+    }
+
+    private void write(String text) {
+        byte[] raw = text.getBytes(StandardCharsets.UTF_8);
+        if (raw.length > COMPRESSION_THRESHOLD) {
+            byte[] deflated = ContentCompressor.compress(text);
+            if (deflated.length < raw.length) {
+                this.body = deflated;
+                this.compressed = true;
+                return;
+            }
+        }
+        this.body = raw;
+        this.compressed = false;
+    }
+}
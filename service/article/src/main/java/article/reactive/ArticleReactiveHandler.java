@@ -0,0 +1,98 @@
+package article.reactive;
+
+import common.dto.ApiResponse;
+import common.util.ETags;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.convert.ConversionFailedException;
+import org.springframework.core.convert.support.DefaultConversionService;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Mono;
+
+import java.util.Optional;
+
+@Slf4j
+@Component
+@Profile("reactive")
+@RequiredArgsConstructor
+public class ArticleReactiveHandler {
+
+    private final ArticleReactiveRepository articleReactiveRepository;
+
+    public Mono<ServerResponse> getArticle(ServerRequest request) {
+        Long articleId;
+        try {
+            articleId = Long.valueOf(request.pathVariable("articleId"));
+        } catch (NumberFormatException e) {
+            return invalidParameter("articleId");
+        }
+        return articleReactiveRepository.findById(articleId)
+                .flatMap(article -> {
+                    String eTag = ETags.fromVersion(article.getVersion());
+                    // 304 for a matching If-None-Match, as ResponseEntity.eTag gives the MVC controller
+                    return request.checkNotModified(eTag)
+                            .switchIfEmpty(Mono.defer(() -> ServerResponse.ok()
+                                    .eTag(eTag)
+                                    .varyBy(HttpHeaders.ACCEPT)
+                                    .bodyValue(ApiResponse.ok(article))));
+                })
+                .switchIfEmpty(Mono.defer(() -> ServerResponse.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                        .bodyValue(ApiResponse.error(500, "Article not found"))));
+    }
+
+    public Mono<ServerResponse> getArticles(ServerRequest request) {
+        Optional<String> boardIdParam = request.queryParam("boardId");
+        if (boardIdParam.isEmpty()) {
+            return ServerResponse.badRequest().bodyValue(ApiResponse.error(400, "boardId is required"));
+        }
+        Long boardId;
+        int pageSize;
+        Long lastArticleId;
+        boolean includeContent;
+        try {
+            boardId = Long.valueOf(boardIdParam.get());
+        } catch (NumberFormatException e) {
+            return invalidParameter("boardId");
+        }
+        try {
+            pageSize = request.queryParam("pageSize").map(Integer::parseInt).orElse(10);
+        } catch (NumberFormatException e) {
+            return invalidParameter("pageSize");
+        }
+        try {
+            lastArticleId = request.queryParam("lastArticleId").map(Long::valueOf).orElse(null);
+        } catch (NumberFormatException e) {
+            return invalidParameter("lastArticleId");
+        }
+        try {
+            // Same true/false/on/off/yes/no/1/0 spellings the MVC binder accepts
+            includeContent = request.queryParam("includeContent")
+                    .map(value -> DefaultConversionService.getSharedInstance().convert(value, Boolean.class))
+                    .orElse(false);
+        } catch (ConversionFailedException e) {
+            return invalidParameter("includeContent");
+        }
+
+        return articleReactiveRepository.findAllByBoardId(boardId, pageSize, lastArticleId, includeContent)
+                .collectList()
+                .flatMap(articles -> ServerResponse.ok()
+                        .varyBy(HttpHeaders.ACCEPT)
+                        .bodyValue(ApiResponse.ok(articles)));
+    }
+
+    public Mono<ServerResponse> handleError(Throwable e, ServerRequest request) {
+        log.error("Runtime Exception: ", e);
+        return ServerResponse.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                .bodyValue(ApiResponse.error(500, e.getMessage() != null ? e.getMessage() : "Internal Server Error"));
+    }
+
+    // Same status and body as GlobalExceptionHandler gives the MVC controller for a type mismatch
+    private Mono<ServerResponse> invalidParameter(String name) {
+        return ServerResponse.badRequest().bodyValue(ApiResponse.error(400, "Invalid value for parameter: " + name));
+    }
+}
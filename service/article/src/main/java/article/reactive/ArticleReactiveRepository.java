@@ -0,0 +1,87 @@
+package article.reactive;
+
+import article.dto.ArticleResponse;
+import article.model.ArticleContent;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.Row;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+
+/**
+ * Non-blocking reads of the same tables the JPA entities map. The connection factory is created here rather than
+ * exposed as a bean so Boot keeps configuring the JDBC DataSource that the rest of the service uses.
+ */
+@Component
+@Profile("reactive")
+public class ArticleReactiveRepository implements DisposableBean {
+
+    private static final String SELECT_ARTICLE = "SELECT a.id, a.board_id, a.title, a.writer_nickname, a.created_at, a.version, "
+            + "c.body, c.compressed FROM articles a JOIN article_contents c ON c.article_id = a.id ";
+    // List pages carry metadata only unless includeContent is asked for, like the MVC path
+    private static final String SELECT_SUMMARY = "SELECT a.id, a.board_id, a.title, a.writer_nickname, a.created_at, a.version "
+            + "FROM articles a ";
+
+    private final ConnectionFactory connectionFactory;
+    private final DatabaseClient databaseClient;
+
+    public ArticleReactiveRepository(@Value("${reactive.r2dbc.url}") String url) {
+        this.connectionFactory = ConnectionFactories.get(url);
+        this.databaseClient = DatabaseClient.create(connectionFactory);
+    }
+
+    public Mono<ArticleResponse> findById(Long articleId) {
+        return databaseClient.sql(SELECT_ARTICLE + "WHERE a.id = :articleId")
+                .bind("articleId", articleId)
+                .map((row, metadata) -> toResponse(row, true))
+                .one();
+    }
+
+    public Flux<ArticleResponse> findAllByBoardId(Long boardId, int pageSize, Long lastArticleId,
+            boolean includeContent) {
+        String select = includeContent ? SELECT_ARTICLE : SELECT_SUMMARY;
+        if (lastArticleId == null) {
+            return databaseClient.sql(select + "WHERE a.board_id = :boardId ORDER BY a.id DESC LIMIT :pageSize")
+                    .bind("boardId", boardId)
+                    .bind("pageSize", pageSize)
+                    .map((row, metadata) -> toResponse(row, includeContent))
+                    .all();
+        }
+        return databaseClient.sql(select
+                        + "WHERE a.board_id = :boardId AND a.id < :lastArticleId ORDER BY a.id DESC LIMIT :pageSize")
+                .bind("boardId", boardId)
+                .bind("lastArticleId", lastArticleId)
+                .bind("pageSize", pageSize)
+                .map((row, metadata) -> toResponse(row, includeContent))
+                .all();
+    }
+
+    private ArticleResponse toResponse(Row row, boolean withContent) {
+        return ArticleResponse.builder()
+                .articleId(row.get("id", Long.class))
+                .boardId(row.get("board_id", Long.class))
+                .title(row.get("title", String.class))
+                .content(withContent
+                        ? ArticleContent.decode(row.get("body", byte[].class), row.get("compressed", Boolean.class))
+                        : null)
+                .writerNickname(row.get("writer_nickname", String.class))
+                .createdAt(row.get("created_at", LocalDateTime.class))
+                .version(row.get("version", Long.class))
+                .build();
+    }
+
+    @Override
+    public void destroy() {
+        if (connectionFactory instanceof Disposable disposable) {
+            disposable.dispose();
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package article.reactive;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.RouterFunctions;
+import org.springframework.web.reactive.function.server.ServerResponse;
+
+@Configuration
+@Profile("reactive")
+public class ArticleReactiveRouter {
+
+    @Bean
+    public RouterFunction<ServerResponse> articleReadRoutes(ArticleReactiveHandler handler) {
+        return RouterFunctions.route()
+                .GET("/v1/articles/{articleId}", handler::getArticle)
+                .GET("/v1/articles", handler::getArticles)
+                .onError(RuntimeException.class, handler::handleError)
+                .build();
+    }
+}
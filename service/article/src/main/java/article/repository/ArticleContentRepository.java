@@ -0,0 +1,7 @@
+package article.repository;
+
+import article.model.ArticleContent;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface ArticleContentRepository extends JpaRepository<ArticleContent, Long> {
+}
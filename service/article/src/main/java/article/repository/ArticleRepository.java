@@ -1,18 +1,32 @@
 package article.repository;
 
 import article.model.Article;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.util.List;
+import java.util.Optional;
 
 public interface ArticleRepository extends JpaRepository<Article, Long> {
 
+    // The body lives in article_contents, so a content-only edit would not dirty Article; force the version bump.
+    @Lock(LockModeType.OPTIMISTIC_FORCE_INCREMENT)
+    @Query("SELECT a FROM Article a WHERE a.id = :articleId")
+    Optional<Article> findForUpdateById(@Param("articleId") Long articleId);
+
     List<Article> findAllByBoardIdOrderByIdDesc(Long boardId, Pageable pageable);
 
     @Query("SELECT a FROM Article a WHERE a.boardId = :boardId AND a.id < :lastArticleId ORDER BY a.id DESC")
     List<Article> findAllByBoardIdAndIdLessThan(@Param("boardId") Long boardId,
             @Param("lastArticleId") Long lastArticleId, Pageable pageable);
+
+    List<Article> findAllByUserIdOrderByIdDesc(Long userId, Pageable pageable);
+
+    @Query("SELECT a FROM Article a WHERE a.userId = :userId AND a.id < :lastArticleId ORDER BY a.id DESC")
+    List<Article> findAllByUserIdAndIdLessThan(@Param("userId") Long userId,
+            @Param("lastArticleId") Long lastArticleId, Pageable pageable);
 }
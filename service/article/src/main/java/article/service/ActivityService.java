@@ -0,0 +1,69 @@
+package article.service;
+
+import article.client.CommentClient;
+import article.dto.ActivityResponse;
+import article.model.Article;
+import article.repository.ArticleRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+@Service
+@RequiredArgsConstructor
+public class ActivityService {
+
+    private final ArticleRepository articleRepository;
+    private final CommentClient commentClient;
+
+    // Snowflake ids from every service are time ordered, so one id works as the cursor for all streams.
+    // Each stream is read from the cursor for at most one page and the heads are merged newest first.
+    // No surrounding transaction: the remote comment call must not hold a DB connection.
+    public List<ActivityResponse> getActivities(Long userId, int pageSize, Long lastActivityId) {
+        List<ActivityResponse> articles = findArticles(userId, pageSize, lastActivityId).stream()
+                .map(ActivityResponse::from)
+                .toList();
+        List<ActivityResponse> comments = commentClient.getUserComments(userId, pageSize, lastActivityId).stream()
+                .map(ActivityResponse::from)
+                .toList();
+
+        return merge(List.of(articles, comments), pageSize);
+    }
+
+    private List<Article> findArticles(Long userId, int pageSize, Long lastArticleId) {
+        PageRequest pageRequest = PageRequest.of(0, pageSize);
+        if (lastArticleId == null) {
+            return articleRepository.findAllByUserIdOrderByIdDesc(userId, pageRequest);
+        }
+        return articleRepository.findAllByUserIdAndIdLessThan(userId, lastArticleId, pageRequest);
+    }
+
+    private record Head(ActivityResponse item, Iterator<ActivityResponse> rest) {
+    }
+
+    private List<ActivityResponse> merge(List<List<ActivityResponse>> streams, int limit) {
+        PriorityQueue<Head> heads = new PriorityQueue<>(
+                Comparator.comparing((Head head) -> head.item().getId()).reversed());
+        for (List<ActivityResponse> stream : streams) {
+            Iterator<ActivityResponse> iterator = stream.iterator();
+            if (iterator.hasNext()) {
+                heads.add(new Head(iterator.next(), iterator));
+            }
+        }
+
+        List<ActivityResponse> merged = new ArrayList<>(limit);
+        while (merged.size() < limit && !heads.isEmpty()) {
+            Head head = heads.poll();
+            merged.add(head.item());
+            if (head.rest().hasNext()) {
+                heads.add(new Head(head.rest().next(), head.rest()));
+            }
+        }
+        return merged;
+    }
+}
@@ -3,14 +3,21 @@ package article.service;
 import article.dto.ArticleRequest;
 import article.dto.ArticleResponse;
 import article.model.Article;
+import article.model.ArticleContent;
+import article.repository.ArticleContentRepository;
 import article.repository.ArticleRepository;
+import common.exception.PreconditionFailedException;
+import common.util.OptimisticLockRetry;
 import common.util.SnowflakeIdGenerator;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Service
@@ -19,7 +26,10 @@ import java.util.stream.Collectors;
 public class ArticleService {
 
     private final ArticleRepository articleRepository;
+    private final ArticleContentRepository articleContentRepository;
     private final SnowflakeIdGenerator snowflakeIdGenerator;
+    private final OptimisticLockRetry optimisticLockRetry;
+    private final TransactionTemplate transactionTemplate;
 
     @Transactional
     public Long createArticle(Long userId, String nickname, ArticleRequest request) {
@@ -27,21 +37,26 @@ public class ArticleService {
                 .id(snowflakeIdGenerator.nextId())
                 .boardId(request.getBoardId())
                 .title(request.getTitle())
-                .content(request.getContent())
                 .userId(userId)
                 .writerNickname(nickname)
                 .build();
 
-        return articleRepository.save(article).getId();
+        Long articleId = articleRepository.save(article).getId();
+        articleContentRepository.save(new ArticleContent(articleId, request.getContent()));
+        return articleId;
     }
 
     public ArticleResponse getArticle(Long articleId) {
         Article article = articleRepository.findById(articleId)
                 .orElseThrow(() -> new IllegalArgumentException("Article not found"));
-        return ArticleResponse.from(article);
+        return ArticleResponse.from(article, findContent(articleId).getText());
     }
 
-    public List<ArticleResponse> getArticles(Long boardId, int pageSize, Long lastArticleId) {
+    /**
+     * @param includeContent also return each body, loaded for the whole page with one query; off by default so list
+     *                       pages never touch article_contents
+     */
+    public List<ArticleResponse> getArticles(Long boardId, int pageSize, Long lastArticleId, boolean includeContent) {
         PageRequest pageRequest = PageRequest.of(0, pageSize);
         List<Article> articles;
 
@@ -51,33 +66,61 @@ public class ArticleService {
             articles = articleRepository.findAllByBoardIdAndIdLessThan(boardId, lastArticleId, pageRequest);
         }
 
+        if (!includeContent) {
+            return articles.stream()
+                    .map(ArticleResponse::summary)
+                    .collect(Collectors.toList());
+        }
+
+        Map<Long, String> contents = articleContentRepository
+                .findAllById(articles.stream().map(Article::getId).toList()).stream()
+                .collect(Collectors.toMap(ArticleContent::getArticleId, ArticleContent::getText));
         return articles.stream()
-                .map(ArticleResponse::from)
+                .map(article -> ArticleResponse.from(article, contents.get(article.getId())))
                 .collect(Collectors.toList());
     }
 
-    @Transactional
-    public Long updateArticle(Long userId, Long articleId, ArticleRequest request) {
-        Article article = articleRepository.findById(articleId)
-                .orElseThrow(() -> new IllegalArgumentException("Article not found"));
+    /**
+     * @param expectedVersion version from the client's {@code If-Match}, or {@code null} to update whatever is current
+     * @return the new version
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public Long updateArticle(Long userId, Long articleId, ArticleRequest request, Long expectedVersion) {
+        Article updated = optimisticLockRetry.execute(() -> transactionTemplate.execute(status -> {
+            Article article = articleRepository.findForUpdateById(articleId)
+                    .orElseThrow(() -> new IllegalArgumentException("Article not found"));
+            checkWriter(article, userId, expectedVersion);
+
+            article.update(request.getTitle());
+            findContent(articleId).update(request.getContent());
+            return article;
+        }));
+        return updated.getVersion();
+    }
 
-        if (!article.getUserId().equals(userId)) {
-            throw new IllegalArgumentException("Unauthorized");
-        }
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void deleteArticle(Long userId, Long articleId, Long expectedVersion) {
+        optimisticLockRetry.run(() -> transactionTemplate.executeWithoutResult(status -> {
+            Article article = articleRepository.findById(articleId)
+                    .orElseThrow(() -> new IllegalArgumentException("Article not found"));
+            checkWriter(article, userId, expectedVersion);
 
-        article.update(request.getTitle(), request.getContent());
-        return article.getId();
+            articleContentRepository.deleteById(articleId);
+            articleRepository.delete(article);
+        }));
     }
 
-    @Transactional
-    public void deleteArticle(Long userId, Long articleId) {
-        Article article = articleRepository.findById(articleId)
-                .orElseThrow(() -> new IllegalArgumentException("Article not found"));
-
+    private void checkWriter(Article article, Long userId, Long expectedVersion) {
         if (!article.getUserId().equals(userId)) {
             throw new IllegalArgumentException("Unauthorized");
         }
+        if (expectedVersion != null && !expectedVersion.equals(article.getVersion())) {
+            throw new PreconditionFailedException("Article has been modified");
+        }
+    }
 
-        articleRepository.delete(article);
+    private ArticleContent findContent(Long articleId) {
+        return articleContentRepository.findById(articleId)
+                .orElseThrow(() -> new IllegalArgumentException("Article content not found"));
     }
 }
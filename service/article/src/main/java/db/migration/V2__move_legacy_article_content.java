@@ -0,0 +1,100 @@
+package db.migration;
+
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Schemas created by {@code ddl-auto: update} before bodies moved to {@code article_contents} still have the
+ * {@code articles.content} column. Copy those bodies over (uncompressed) and drop the column; fresh schemas
+ * created by V1 have nothing to move.
+ *
+ * <p>Rows are copied in primary-key ranges of {@value #BATCH_SIZE}, each committed on its own, so a large table
+ * does not hold one long transaction (undo log, locks on {@code articles}) for the whole copy. A rerun after a
+ * failure only copies the rows that are still missing.
+ */
+public class V2__move_legacy_article_content extends BaseJavaMigration {
+
+    private static final int BATCH_SIZE = 1000;
+
+    @Override
+    public boolean canExecuteInTransaction() {
+        return false;
+    }
+
+    @Override
+    public void migrate(Context context) throws Exception {
+        Connection connection = context.getConnection();
+        if (!hasLegacyContentColumn(connection)) {
+            return;
+        }
+
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("""
+                    CREATE TABLE IF NOT EXISTS article_contents (
+                        article_id BIGINT     NOT NULL,
+                        body       MEDIUMBLOB NOT NULL,
+                        compressed BIT(1)     NOT NULL,
+                        PRIMARY KEY (article_id)
+                    ) ENGINE = InnoDB""");
+        }
+        copyContents(connection);
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("ALTER TABLE articles DROP COLUMN content, ALGORITHM = INPLACE, LOCK = NONE");
+        }
+    }
+
+    private void copyContents(Connection connection) throws SQLException {
+        boolean autoCommit = connection.getAutoCommit();
+        connection.setAutoCommit(false);
+        try (PreparedStatement nextBatch = connection.prepareStatement("""
+                SELECT MAX(id) FROM (
+                    SELECT id FROM articles WHERE id > ? ORDER BY id LIMIT ?
+                ) batch""");
+             PreparedStatement copy = connection.prepareStatement("""
+                     INSERT INTO article_contents (article_id, body, compressed)
+                     SELECT a.id, CAST(a.content AS BINARY), b'0'
+                     FROM articles a
+                     LEFT JOIN article_contents c ON c.article_id = a.id
+                     WHERE a.id > ? AND a.id <= ? AND c.article_id IS NULL""")) {
+            long lastId = Long.MIN_VALUE;
+            while (true) {
+                nextBatch.setLong(1, lastId);
+                nextBatch.setInt(2, BATCH_SIZE);
+                long batchEnd;
+                try (ResultSet resultSet = nextBatch.executeQuery()) {
+                    resultSet.next();
+                    batchEnd = resultSet.getLong(1);
+                    if (resultSet.wasNull()) {
+                        break;
+                    }
+                }
+                copy.setLong(1, lastId);
+                copy.setLong(2, batchEnd);
+                copy.executeUpdate();
+                connection.commit();
+                lastId = batchEnd;
+            }
+        } catch (SQLException e) {
+            connection.rollback();
+            throw e;
+        } finally {
+            connection.setAutoCommit(autoCommit);
+        }
+    }
+
+    private boolean hasLegacyContentColumn(Connection connection) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement("""
+                SELECT COUNT(*) FROM information_schema.columns
+                WHERE table_schema = DATABASE() AND table_name = 'articles' AND column_name = 'content'""")) {
+            try (ResultSet resultSet = statement.executeQuery()) {
+                return resultSet.next() && resultSet.getInt(1) > 0;
+            }
+        }
+    }
+}
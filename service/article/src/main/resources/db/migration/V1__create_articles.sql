@@ -0,0 +1,17 @@
+CREATE TABLE articles (
+    id              BIGINT       NOT NULL,
+    board_id        BIGINT       NOT NULL,
+    title           VARCHAR(255) NOT NULL,
+    user_id         BIGINT       NOT NULL,
+    writer_nickname VARCHAR(255) NOT NULL,
+    created_at      DATETIME(6),
+    updated_at      DATETIME(6),
+    PRIMARY KEY (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE article_contents (
+    article_id BIGINT     NOT NULL,
+    body       MEDIUMBLOB NOT NULL,
+    compressed BIT(1)     NOT NULL,
+    PRIMARY KEY (article_id)
+) ENGINE = InnoDB;
@@ -0,0 +1,5 @@
+-- ArticleRepository.findAllByBoardIdOrderByIdDesc / findAllByBoardIdAndIdLessThan
+-- (WHERE board_id = ? [AND id < ?] ORDER BY id DESC LIMIT ?)
+ALTER TABLE articles
+    ADD INDEX idx_articles_board_id_id (board_id, id),
+    ALGORITHM = INPLACE, LOCK = NONE;
@@ -0,0 +1,4 @@
+-- ArticleRepository.findAllByUserIdOrderByIdDesc / findAllByUserIdAndIdLessThan (activity feed)
+ALTER TABLE articles
+    ADD INDEX idx_articles_user_id_id (user_id, id),
+    ALGORITHM = INPLACE, LOCK = NONE;
@@ -0,0 +1,4 @@
+-- Optimistic locking (Article @Version); existing rows start at version 0
+ALTER TABLE articles
+    ADD COLUMN version BIGINT NOT NULL DEFAULT 0,
+    ALGORITHM = INSTANT;
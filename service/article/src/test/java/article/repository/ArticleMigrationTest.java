@@ -0,0 +1,74 @@
+package article.repository;
+
+import common.test.MySqlTestDatabase;
+import org.junit.jupiter.api.Test;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs the Flyway migrations against a MySQL schema left by {@code ddl-auto: update} and checks that legacy bodies
+ * move to article_contents. Skipped when Docker is not available.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class ArticleMigrationTest {
+
+    @Test
+    void legacyContentIsCopiedInBatchesAndColumnDropped() throws SQLException {
+        String url = MySqlTestDatabase.createDatabase("articledb_legacy");
+        int articles = 2500;
+        try (Connection connection = MySqlTestDatabase.connect(url)) {
+            try (Statement statement = connection.createStatement()) {
+                // Schema left by ddl-auto: update while bodies were still stored on articles
+                statement.execute("""
+                        CREATE TABLE articles (
+                            id              BIGINT       NOT NULL,
+                            board_id        BIGINT       NOT NULL,
+                            title           VARCHAR(255) NOT NULL,
+                            content         TEXT         NOT NULL,
+                            user_id         BIGINT       NOT NULL,
+                            writer_nickname VARCHAR(255) NOT NULL,
+                            created_at      DATETIME(6),
+                            updated_at      DATETIME(6),
+                            PRIMARY KEY (id)
+                        ) ENGINE = InnoDB""");
+            }
+            try (PreparedStatement statement = connection.prepareStatement("INSERT INTO articles "
+                    + "(id, board_id, title, content, user_id, writer_nickname) VALUES (?, 1, 'title', ?, 1, 'writer')")) {
+                for (int i = 1; i <= articles; i++) {
+                    statement.setLong(1, i);
+                    statement.setString(2, "content-" + i);
+                    statement.addBatch();
+                }
+                statement.executeBatch();
+            }
+        }
+
+        MySqlTestDatabase.migrate(url);
+
+        try (Connection connection = MySqlTestDatabase.connect(url); Statement statement = connection.createStatement()) {
+            try (ResultSet resultSet = statement.executeQuery("SELECT COUNT(*) FROM article_contents")) {
+                resultSet.next();
+                assertThat(resultSet.getInt(1)).isEqualTo(articles);
+            }
+            try (ResultSet resultSet = statement.executeQuery(
+                    "SELECT CAST(body AS CHAR) FROM article_contents WHERE article_id = " + articles)) {
+                resultSet.next();
+                assertThat(resultSet.getString(1)).isEqualTo("content-" + articles);
+            }
+            try (ResultSet resultSet = statement.executeQuery("""
+                    SELECT COUNT(*) FROM information_schema.columns
+                    WHERE table_schema = DATABASE() AND table_name = 'articles' AND column_name = 'content'""")) {
+                resultSet.next();
+                assertThat(resultSet.getInt(1)).isZero();
+            }
+            MySqlTestDatabase.assertIndexExists(connection, "articles", "idx_articles_board_id_id");
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package article.repository;
+
+import common.test.MySqlTestDatabase;
+import common.test.SqlCapture;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.AutoConfigurationPackage;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+
+/**
+ * Runs the article list queries through {@link ArticleRepository} against the migrated MySQL schema and checks,
+ * with EXPLAIN on the SQL Hibernate generated, that they use the indexes added for them without a filesort.
+ * Skipped when Docker is not available.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ArticleRepositoryQueryTest {
+
+    private static String url;
+
+    // Entities and repositories only; the application class scans every component in article and common
+    @Configuration
+    @AutoConfigurationPackage(basePackages = "article")
+    static class JpaConfig {
+    }
+
+    @DynamicPropertySource
+    static void dataSource(DynamicPropertyRegistry registry) throws SQLException {
+        url = MySqlTestDatabase.createDatabase("articledb_queries");
+        MySqlTestDatabase.registerDataSource(registry, url);
+    }
+
+    @Autowired
+    private ArticleRepository articleRepository;
+
+    @Test
+    void listQueriesUseIndexes() throws SQLException {
+        // Hibernate binds the page as LIMIT offset, size
+        PageRequest page = PageRequest.of(0, 10);
+        try (Connection connection = MySqlTestDatabase.connect(url)) {
+            insertArticles(connection, 2000);
+            MySqlTestDatabase.analyze(connection, "articles");
+
+            MySqlTestDatabase.assertUsesIndex(connection, "idx_articles_board_id_id",
+                    SqlCapture.single(() -> articleRepository.findAllByBoardIdOrderByIdDesc(1L, page)), 1L, 0, 10);
+            MySqlTestDatabase.assertUsesIndex(connection, "idx_articles_board_id_id",
+                    SqlCapture.single(() -> articleRepository.findAllByBoardIdAndIdLessThan(1L, 1000L, page)),
+                    1L, 1000L, 0, 10);
+            MySqlTestDatabase.assertUsesIndex(connection, "idx_articles_user_id_id",
+                    SqlCapture.single(() -> articleRepository.findAllByUserIdOrderByIdDesc(1L, page)), 1L, 0, 10);
+            MySqlTestDatabase.assertUsesIndex(connection, "idx_articles_user_id_id",
+                    SqlCapture.single(() -> articleRepository.findAllByUserIdAndIdLessThan(1L, 1000L, page)),
+                    1L, 1000L, 0, 10);
+        }
+    }
+
+    private static void insertArticles(Connection connection, int count) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(
+                "INSERT INTO articles (id, board_id, title, user_id, writer_nickname) VALUES (?, ?, ?, ?, ?)")) {
+            for (int i = 1; i <= count; i++) {
+                statement.setLong(1, i);
+                statement.setLong(2, i % 20);
+                statement.setString(3, "title-" + i);
+                statement.setLong(4, i % 50);
+                statement.setString(5, "writer");
+                statement.addBatch();
+            }
+            statement.executeBatch();
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package comment.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import comment.config.ReplyLimits;
+import comment.dto.CommentResponse;
+import comment.model.Comment;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Keeps a ready-to-write JSON snapshot of the comment tree for recently read articles.
+ * Writes are applied to cached trees in place, so a new comment appends one node instead of rebuilding the tree.
+ *
+ * <p>Loads and in-place updates for the same article run under the same lock stripe, so a write that commits while
+ * a tree is being loaded is applied to the freshly cached snapshot instead of being lost. Writes only reach the
+ * instance that handled them, so snapshots expire after {@code comment.tree-cache.ttl} to bound how long other
+ * instances serve a stale tree.
+ */
+@Component
+public class CommentTreeCache {
+
+    private static final int LOCK_STRIPES = 64;
+
+    private final ObjectMapper objectMapper;
+    private final ReplyLimits replyLimits;
+    private final long ttlMillis;
+    private final Object[] locks = new Object[LOCK_STRIPES];
+    private final Map<Long, CommentTreeSnapshot> snapshots;
+
+    public CommentTreeCache(ObjectMapper objectMapper, ReplyLimits replyLimits,
+            @Value("${comment.tree-cache.max-articles:1000}") int maxArticles,
+            @Value("${comment.tree-cache.ttl:30000}") long ttlMillis) {
+        this.objectMapper = objectMapper;
+        this.replyLimits = replyLimits;
+        this.ttlMillis = ttlMillis;
+        for (int i = 0; i < LOCK_STRIPES; i++) {
+            locks[i] = new Object();
+        }
+        this.snapshots = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, CommentTreeSnapshot> eldest) {
+                return size() > maxArticles;
+            }
+        });
+    }
+
+    public CommentTreeSnapshot.Rendered get(Long articleId, Supplier<List<Comment>> loader) {
+        CommentTreeSnapshot snapshot = snapshots.get(articleId);
+        if (snapshot == null || snapshot.isExpired(ttlMillis)) {
+            synchronized (lockFor(articleId)) {
+                snapshot = snapshots.get(articleId);
+                if (snapshot == null || snapshot.isExpired(ttlMillis)) {
+                    snapshot = build(loader.get());
+                    snapshots.put(articleId, snapshot);
+                }
+            }
+        }
+        return snapshot.render(objectMapper);
+    }
+
+    public void append(Long articleId, Long commentId, Long parentId, CommentResponse node) {
+        synchronized (lockFor(articleId)) {
+            CommentTreeSnapshot snapshot = snapshots.get(articleId);
+            // The parent is not in the snapshot (e.g. it was loaded before the parent existed), so rebuild on next read
+            if (snapshot != null && !snapshot.append(commentId, parentId, node)) {
+                snapshots.remove(articleId);
+            }
+        }
+    }
+
+    public void remove(Long articleId, Long commentId) {
+        synchronized (lockFor(articleId)) {
+            CommentTreeSnapshot snapshot = snapshots.get(articleId);
+            if (snapshot != null) {
+                snapshot.remove(commentId);
+            }
+        }
+    }
+
+    public void evict(Long articleId) {
+        synchronized (lockFor(articleId)) {
+            snapshots.remove(articleId);
+        }
+    }
+
+    private Object lockFor(Long articleId) {
+        return locks[Math.floorMod(Long.hashCode(articleId), LOCK_STRIPES)];
+    }
+
+    private CommentTreeSnapshot build(List<Comment> comments) {
+        CommentTreeSnapshot snapshot = new CommentTreeSnapshot();
+        Map<Long, Long> displayParents = replyLimits.displayParents(comments);
+        for (Comment comment : comments) {
+            snapshot.append(comment.getId(), displayParents.get(comment.getId()), CommentResponse.from(comment));
+        }
+        return snapshot;
+    }
+}
@@ -0,0 +1,89 @@
+package comment.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import comment.dto.CommentResponse;
+import common.dto.ApiResponse;
+import org.springframework.util.DigestUtils;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public class CommentTreeSnapshot {
+
+    private final List<CommentResponse> roots = new ArrayList<>();
+    private final Map<Long, CommentResponse> nodes = new HashMap<>();
+    private final Map<Long, Long> parentIds = new HashMap<>();
+
+    private final long loadedAt = System.currentTimeMillis();
+    private Rendered rendered;
+
+    public record Rendered(byte[] body, String etag) {
+    }
+
+    /**
+     * @return {@code false} if the reply could not be placed because its parent is not in the snapshot
+     */
+    synchronized boolean append(Long commentId, Long parentId, CommentResponse node) {
+        if (nodes.containsKey(commentId)) {
+            return true;
+        }
+        if (parentId == null) {
+            roots.add(node);
+        } else {
+            CommentResponse parent = nodes.get(parentId);
+            if (parent == null) {
+                return false;
+            }
+            parent.addChild(node);
+            parentIds.put(commentId, parentId);
+        }
+        nodes.put(commentId, node);
+        rendered = null;
+        return true;
+    }
+
+    boolean isExpired(long ttlMillis) {
+        return System.currentTimeMillis() - loadedAt > ttlMillis;
+    }
+
+    synchronized void remove(Long commentId) {
+        CommentResponse node = nodes.get(commentId);
+        if (node == null) {
+            return;
+        }
+
+        Long parentId = parentIds.get(commentId);
+        if (parentId == null) {
+            roots.remove(node);
+        } else {
+            nodes.get(parentId).removeChild(node);
+        }
+
+        Deque<CommentResponse> stack = new ArrayDeque<>();
+        stack.push(node);
+        while (!stack.isEmpty()) {
+            CommentResponse current = stack.pop();
+            nodes.remove(current.getCommentId());
+            parentIds.remove(current.getCommentId());
+            current.getChildren().forEach(stack::push);
+        }
+        rendered = null;
+    }
+
+    synchronized Rendered render(ObjectMapper objectMapper) {
+        if (rendered == null) {
+            try {
+                byte[] body = objectMapper.writeValueAsBytes(ApiResponse.ok(roots));
+                rendered = new Rendered(body, "\"" + DigestUtils.md5DigestAsHex(body) + "\"");
+            } catch (JsonProcessingException e) {
+                throw new IllegalStateException("Failed to serialize comment tree", e);
+            }
+        }
+        return rendered;
+    }
+}
@@ -0,0 +1,56 @@
+package comment.config;
+
+import comment.model.Comment;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Nesting and fan-out limits for replies. Root comments have depth 0.
+ */
+@Component
+public class ReplyLimits {
+
+    private final int maxDepth;
+    private final int maxChildren;
+
+    public ReplyLimits(@Value("${comment.reply.max-depth:5}") int maxDepth,
+            @Value("${comment.reply.max-children:200}") int maxChildren) {
+        if (maxDepth < 1 || maxChildren < 1) {
+            throw new IllegalArgumentException("comment.reply limits must be positive");
+        }
+        this.maxDepth = maxDepth;
+        this.maxChildren = maxChildren;
+    }
+
+    public int getMaxDepth() {
+        return maxDepth;
+    }
+
+    public int getMaxChildren() {
+        return maxChildren;
+    }
+
+    /**
+     * Maps each reply to the comment it is shown under. Replies nested deeper than {@code maxDepth}
+     * (rows written before the limit existed) are lifted to sit beside their ancestor at {@code maxDepth}.
+     * Comments must be ordered parents first; root comments have no entry.
+     */
+    public Map<Long, Long> displayParents(List<Comment> comments) {
+        Map<Long, Long> displayParents = new HashMap<>();
+        for (Comment comment : comments) {
+            if (comment.getParent() == null) {
+                continue;
+            }
+            Long parentId = comment.getParent().getId();
+            Long displayParentId = comment.getDepth() > maxDepth
+                    ? displayParents.getOrDefault(parentId, parentId)
+                    : parentId;
+            displayParents.put(comment.getId(), displayParentId);
+        }
+        return displayParents;
+    }
+}
@@ -1,12 +1,17 @@
 package comment.controller;
 
+import comment.cache.CommentTreeSnapshot;
 import comment.dto.CommentRequest;
 import comment.dto.CommentResponse;
+import comment.dto.UserCommentResponse;
 import comment.service.CommentService;
 import common.dto.ApiResponse;
+import common.idempotency.IdempotencyStore;
 import common.security.JwtTokenProvider;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
@@ -19,34 +24,56 @@ public class CommentController {
 
     private final CommentService commentService;
     private final JwtTokenProvider jwtTokenProvider;
+    private final IdempotencyStore idempotencyStore;
 
-    private record UserInfo(Long userId, String nickname) {
+    // username is the authenticated principal from the token, null for anonymous callers
+    private record UserInfo(Long userId, String nickname, String username) {
     }
 
     private UserInfo resolveUser(String authHeader) {
         if (authHeader == null || !authHeader.startsWith("Bearer ")) {
-            return new UserInfo(1L, "테스트사용자");
+            return new UserInfo(1L, "테스트사용자", null);
         }
         String token = authHeader.substring(7);
         String username = jwtTokenProvider.getUsername(token);
-        return new UserInfo(1L, username);
+        return new UserInfo(1L, username, username);
     }
 
     @PostMapping
     public ApiResponse<Map<String, Long>> createComment(
             @RequestHeader(value = "Authorization", required = false) String authHeader,
+            @RequestHeader(value = IdempotencyStore.HEADER, required = false) String idempotencyKey,
             @Valid @RequestBody CommentRequest request) {
         UserInfo user = resolveUser(authHeader);
-        Long commentId = commentService.createComment(user.userId(), user.nickname(), request);
+        Long commentId = idempotencyStore.execute("comment", user.username(), idempotencyKey, request,
+                () -> commentService.createComment(user.userId(), user.nickname(), request));
         return ApiResponse.created(Map.of("commentId", commentId));
     }
 
     @GetMapping
+    public ResponseEntity<byte[]> getCommentTree(@RequestParam Long articleId) {
+        CommentTreeSnapshot.Rendered tree = commentService.getCommentTree(articleId);
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .eTag(tree.etag())
+                .body(tree.body());
+    }
+
+    @GetMapping(produces = "application/cbor")
     public ApiResponse<List<CommentResponse>> getComments(@RequestParam Long articleId) {
         List<CommentResponse> responses = commentService.getComments(articleId);
         return ApiResponse.ok(responses);
     }
 
+    @GetMapping("/users/{userId}")
+    public ApiResponse<List<UserCommentResponse>> getUserComments(
+            @PathVariable Long userId,
+            @RequestParam(defaultValue = "10") int pageSize,
+            @RequestParam(required = false) Long lastCommentId) {
+        List<UserCommentResponse> responses = commentService.getUserComments(userId, pageSize, lastCommentId);
+        return ApiResponse.ok(responses);
+    }
+
     @DeleteMapping("/{commentId}")
     public ApiResponse<Void> deleteComment(
             @RequestHeader(value = "Authorization", required = false) String authHeader,
@@ -34,4 +34,8 @@ public class CommentResponse {
     public void addChild(CommentResponse child) {
         this.children.add(child);
     }
+
+    public void removeChild(CommentResponse child) {
+        this.children.remove(child);
+    }
 }
@@ -0,0 +1,29 @@
+package comment.dto;
+
+import comment.model.Comment;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserCommentResponse {
+    private Long commentId;
+    private Long articleId;
+    private String content;
+    private LocalDateTime createdAt;
+
+    public static UserCommentResponse from(Comment comment) {
+        return UserCommentResponse.builder()
+                .commentId(comment.getId())
+                .articleId(comment.getArticleId())
+                .content(comment.getContent())
+                .createdAt(comment.getCreatedAt())
+                .build();
+    }
+}
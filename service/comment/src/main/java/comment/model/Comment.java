@@ -42,6 +42,12 @@ public class Comment {
     @OneToMany(mappedBy = "parent", orphanRemoval = true)
     private List<Comment> children = new ArrayList<>();
 
+    @Column(nullable = false)
+    private int depth;
+
+    @Column(nullable = false)
+    private int childCount;
+
     @CreatedDate
     @Column(updatable = false)
     private LocalDateTime createdAt;
@@ -49,13 +55,18 @@ public class Comment {
     @LastModifiedDate
     private LocalDateTime updatedAt;
 
+    @Version
+    private Long version;
+
     @Builder
-    public Comment(Long id, Long articleId, Long userId, String writerNickname, String content, Comment parent) {
+    public Comment(Long id, Long articleId, Long userId, String writerNickname, String content, Comment parent,
+            int depth) {
         this.id = id;
         this.articleId = articleId;
         this.userId = userId;
         this.writerNickname = writerNickname;
         this.content = content;
         this.parent = parent;
+        this.depth = depth;
     }
 }
@@ -1,14 +1,42 @@
 package comment.repository;
 
 import comment.model.Comment;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.util.List;
+import java.util.Optional;
 
 public interface CommentRepository extends JpaRepository<Comment, Long> {
 
+    interface ReplyTarget {
+        Long getArticleId();
+
+        int getDepth();
+    }
+
+    @Query("SELECT c.articleId AS articleId, c.depth AS depth FROM Comment c WHERE c.id = :commentId")
+    Optional<ReplyTarget> findReplyTargetById(@Param("commentId") Long commentId);
+
+    // Bumping the version makes a concurrent delete of the parent retry and pick up the new reply.
+    @Modifying
+    @Query("UPDATE Comment c SET c.childCount = c.childCount + 1, c.version = c.version + 1 "
+            + "WHERE c.id = :commentId AND c.childCount < :maxChildren")
+    int incrementChildCount(@Param("commentId") Long commentId, @Param("maxChildren") int maxChildren);
+
+    @Modifying
+    @Query("UPDATE Comment c SET c.childCount = c.childCount - 1 WHERE c.id = :commentId AND c.childCount > 0")
+    int decrementChildCount(@Param("commentId") Long commentId);
+
     @Query("SELECT c FROM Comment c WHERE c.articleId = :articleId ORDER BY c.createdAt ASC")
     List<Comment> findAllByArticleId(@Param("articleId") Long articleId);
+
+    List<Comment> findAllByUserIdOrderByIdDesc(Long userId, Pageable pageable);
+
+    @Query("SELECT c FROM Comment c WHERE c.userId = :userId AND c.id < :lastCommentId ORDER BY c.id DESC")
+    List<Comment> findAllByUserIdAndIdLessThan(@Param("userId") Long userId,
+            @Param("lastCommentId") Long lastCommentId, Pageable pageable);
 }
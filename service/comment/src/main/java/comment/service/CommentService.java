@@ -1,18 +1,29 @@
 package comment.service;
 
+import comment.cache.CommentTreeCache;
+import comment.cache.CommentTreeSnapshot;
+import comment.config.ReplyLimits;
 import comment.dto.CommentRequest;
 import comment.dto.CommentResponse;
+import comment.dto.UserCommentResponse;
 import comment.model.Comment;
 import comment.repository.CommentRepository;
+import common.util.OptimisticLockRetry;
 import common.util.SnowflakeIdGenerator;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -21,13 +32,33 @@ public class CommentService {
 
     private final CommentRepository commentRepository;
     private final SnowflakeIdGenerator snowflakeIdGenerator;
+    private final CommentTreeCache commentTreeCache;
+    private final OptimisticLockRetry optimisticLockRetry;
+    private final TransactionTemplate transactionTemplate;
+    private final ReplyLimits replyLimits;
 
     @Transactional
     public Long createComment(Long userId, String nickname, CommentRequest request) {
         Comment parent = null;
+        int depth = 0;
         if (request.getParentId() != null) {
-            parent = commentRepository.findById(request.getParentId())
+            CommentRepository.ReplyTarget target = commentRepository.findReplyTargetById(request.getParentId())
                     .orElseThrow(() -> new IllegalArgumentException("Parent comment not found"));
+            if (!target.getArticleId().equals(request.getArticleId())) {
+                throw new IllegalArgumentException("Parent comment belongs to another article");
+            }
+            if (target.getDepth() + 1 > replyLimits.getMaxDepth()) {
+                throw new IllegalArgumentException("Reply depth limit exceeded");
+            }
+            if (commentRepository.incrementChildCount(request.getParentId(), replyLimits.getMaxChildren()) == 0) {
+                // The parent may have been deleted since it was read
+                if (!commentRepository.existsById(request.getParentId())) {
+                    throw new IllegalArgumentException("Parent comment not found");
+                }
+                throw new IllegalArgumentException("Reply limit exceeded");
+            }
+            parent = commentRepository.getReferenceById(request.getParentId());
+            depth = target.getDepth() + 1;
         }
 
         Comment comment = Comment.builder()
@@ -37,9 +68,15 @@ public class CommentService {
                 .writerNickname(nickname)
                 .content(request.getContent())
                 .parent(parent)
+                .depth(depth)
                 .build();
 
-        return commentRepository.save(comment).getId();
+        Comment saved = commentRepository.save(comment);
+        CommentResponse node = CommentResponse.from(saved);
+        Long parentId = parent != null ? parent.getId() : null;
+        afterCommit(() -> commentTreeCache.append(saved.getArticleId(), saved.getId(), parentId, node));
+
+        return saved.getId();
     }
 
     public List<CommentResponse> getComments(Long articleId) {
@@ -47,8 +84,29 @@ public class CommentService {
         return convertToHierarchy(comments);
     }
 
+    public List<UserCommentResponse> getUserComments(Long userId, int pageSize, Long lastCommentId) {
+        PageRequest pageRequest = PageRequest.of(0, pageSize);
+        List<Comment> comments;
+
+        if (lastCommentId == null) {
+            comments = commentRepository.findAllByUserIdOrderByIdDesc(userId, pageRequest);
+        } else {
+            comments = commentRepository.findAllByUserIdAndIdLessThan(userId, lastCommentId, pageRequest);
+        }
+
+        return comments.stream()
+                .map(UserCommentResponse::from)
+                .collect(Collectors.toList());
+    }
+
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public CommentTreeSnapshot.Rendered getCommentTree(Long articleId) {
+        return commentTreeCache.get(articleId, () -> commentRepository.findAllByArticleId(articleId));
+    }
+
     private List<CommentResponse> convertToHierarchy(List<Comment> comments) {
         Map<Long, CommentResponse> map = new HashMap<>();
+        Map<Long, Long> displayParents = replyLimits.displayParents(comments);
         List<CommentResponse> roots = new ArrayList<>();
 
         for (Comment comment : comments) {
@@ -57,8 +115,9 @@ public class CommentService {
 
         for (Comment comment : comments) {
             CommentResponse dto = map.get(comment.getId());
-            if (comment.getParent() != null) {
-                CommentResponse parentDto = map.get(comment.getParent().getId());
+            Long parentId = displayParents.get(comment.getId());
+            if (parentId != null) {
+                CommentResponse parentDto = map.get(parentId);
                 if (parentDto != null) {
                     parentDto.addChild(dto);
                 }
@@ -70,15 +129,35 @@ public class CommentService {
         return roots;
     }
 
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public void deleteComment(Long userId, Long commentId) {
-        Comment comment = commentRepository.findById(commentId)
-                .orElseThrow(() -> new IllegalArgumentException("Comment not found"));
+        optimisticLockRetry.run(() -> transactionTemplate.executeWithoutResult(status -> {
+            Comment comment = commentRepository.findById(commentId)
+                    .orElseThrow(() -> new IllegalArgumentException("Comment not found"));
 
-        if (!comment.getUserId().equals(userId)) {
-            throw new IllegalArgumentException("Unauthorized");
-        }
+            if (!comment.getUserId().equals(userId)) {
+                throw new IllegalArgumentException("Unauthorized");
+            }
 
-        commentRepository.delete(comment);
+            commentRepository.delete(comment);
+            if (comment.getParent() != null) {
+                commentRepository.decrementChildCount(comment.getParent().getId());
+            }
+            if (comment.getDepth() >= replyLimits.getMaxDepth()) {
+                // Its replies may be shown lifted beside it rather than under it, so the cached subtree is not enough.
+                afterCommit(() -> commentTreeCache.evict(comment.getArticleId()));
+            } else {
+                afterCommit(() -> commentTreeCache.remove(comment.getArticleId(), comment.getId()));
+            }
+        }));
+    }
+
+    private void afterCommit(Runnable action) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
     }
 }
@@ -0,0 +1,12 @@
+CREATE TABLE comments (
+    id              BIGINT       NOT NULL,
+    article_id      BIGINT       NOT NULL,
+    user_id         BIGINT       NOT NULL,
+    writer_nickname VARCHAR(255) NOT NULL,
+    content         TEXT         NOT NULL,
+    parent_id       BIGINT,
+    created_at      DATETIME(6),
+    updated_at      DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT fk_comments_parent FOREIGN KEY (parent_id) REFERENCES comments (id)
+) ENGINE = InnoDB;
@@ -0,0 +1,4 @@
+-- CommentRepository.findAllByArticleId (WHERE article_id = ? ORDER BY created_at)
+ALTER TABLE comments
+    ADD INDEX idx_comments_article_id_created_at (article_id, created_at),
+    ALGORITHM = INPLACE, LOCK = NONE;
@@ -0,0 +1,4 @@
+-- CommentRepository.findAllByUserIdOrderByIdDesc / findAllByUserIdAndIdLessThan (activity feed)
+ALTER TABLE comments
+    ADD INDEX idx_comments_user_id_id (user_id, id),
+    ALGORITHM = INPLACE, LOCK = NONE;
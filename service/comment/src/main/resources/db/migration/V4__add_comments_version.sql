@@ -0,0 +1,4 @@
+-- Optimistic locking (Comment @Version); existing rows start at version 0
+ALTER TABLE comments
+    ADD COLUMN version BIGINT NOT NULL DEFAULT 0,
+    ALGORITHM = INSTANT;
@@ -0,0 +1,22 @@
+-- Reply depth/fan-out limits (Comment.depth, Comment.childCount)
+ALTER TABLE comments
+    ADD COLUMN depth       INT NOT NULL DEFAULT 0,
+    ADD COLUMN child_count INT NOT NULL DEFAULT 0,
+    ALGORITHM = INSTANT;
+
+-- Backfill existing rows; roots keep depth 0
+UPDATE comments c
+    JOIN (WITH RECURSIVE tree (id, depth) AS (
+              SELECT id, 0 FROM comments WHERE parent_id IS NULL
+              UNION ALL
+              SELECT child.id, tree.depth + 1 FROM comments child JOIN tree ON child.parent_id = tree.id)
+          SELECT id, depth FROM tree) d ON d.id = c.id
+SET c.depth = d.depth
+WHERE d.depth > 0;
+
+UPDATE comments c
+    JOIN (SELECT parent_id, COUNT(*) AS child_count
+          FROM comments
+          WHERE parent_id IS NOT NULL
+          GROUP BY parent_id) k ON k.parent_id = c.id
+SET c.child_count = k.child_count;
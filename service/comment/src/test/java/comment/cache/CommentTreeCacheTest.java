@@ -0,0 +1,132 @@
+package comment.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import comment.config.ReplyLimits;
+import comment.dto.CommentResponse;
+import comment.model.Comment;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CommentTreeCacheTest {
+
+    private static final Long ARTICLE_ID = 10L;
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+    private final ReplyLimits replyLimits = new ReplyLimits(5, 200);
+    private final AtomicInteger loads = new AtomicInteger();
+    private final Comment root = comment(1L, null);
+
+    @Test
+    void concurrentReadsOfAColdArticleLoadItOnce() throws Exception {
+        CommentTreeCache cache = cache(60_000);
+        CountDownLatch start = new CountDownLatch(1);
+        Supplier<List<Comment>> slowLoader = () -> {
+            loads.incrementAndGet();
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return List.of(root);
+        };
+
+        List<Future<CommentTreeSnapshot.Rendered>> reads = new ArrayList<>();
+        try (ExecutorService executor = Executors.newFixedThreadPool(8)) {
+            for (int i = 0; i < 8; i++) {
+                reads.add(executor.submit(() -> {
+                    start.await();
+                    return cache.get(ARTICLE_ID, slowLoader);
+                }));
+            }
+            start.countDown();
+            for (Future<CommentTreeSnapshot.Rendered> read : reads) {
+                assertThat(read.get(5, TimeUnit.SECONDS).etag()).isEqualTo(reads.get(0).get().etag());
+            }
+        }
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void appendAndRemoveUpdateTheCachedTreeInPlace() throws IOException {
+        CommentTreeCache cache = cache(60_000);
+        cache.get(ARTICLE_ID, this::load);
+
+        cache.append(ARTICLE_ID, 2L, 1L, node(2L));
+        assertThat(children(cache)).isEqualTo(1);
+
+        cache.remove(ARTICLE_ID, 2L);
+        assertThat(children(cache)).isZero();
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void appendUnderAMissingParentEvictsSoTheNextReadReloads() {
+        CommentTreeCache cache = cache(60_000);
+        cache.get(ARTICLE_ID, this::load);
+
+        cache.append(ARTICLE_ID, 3L, 99L, node(3L));
+        cache.get(ARTICLE_ID, this::load);
+
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void expiredSnapshotIsReloaded() throws InterruptedException {
+        // Wide enough that a cold first render cannot expire the snapshot before the second read
+        CommentTreeCache cache = cache(500);
+        cache.get(ARTICLE_ID, this::load);
+        cache.get(ARTICLE_ID, this::load);
+        assertThat(loads).hasValue(1);
+
+        Thread.sleep(600);
+        cache.get(ARTICLE_ID, this::load);
+        assertThat(loads).hasValue(2);
+    }
+
+    private CommentTreeCache cache(long ttlMillis) {
+        return new CommentTreeCache(objectMapper, replyLimits, 100, ttlMillis);
+    }
+
+    private List<Comment> load() {
+        loads.incrementAndGet();
+        return List.of(root);
+    }
+
+    private int children(CommentTreeCache cache) throws IOException {
+        byte[] body = cache.get(ARTICLE_ID, this::load).body();
+        return objectMapper.readTree(body).at("/data/0/children").size();
+    }
+
+    private static Comment comment(Long id, Comment parent) {
+        return Comment.builder()
+                .id(id)
+                .articleId(ARTICLE_ID)
+                .userId(1L)
+                .writerNickname("writer")
+                .content("comment " + id)
+                .parent(parent)
+                .depth(parent == null ? 0 : parent.getDepth() + 1)
+                .build();
+    }
+
+    private static CommentResponse node(Long commentId) {
+        return CommentResponse.builder()
+                .commentId(commentId)
+                .content("comment " + commentId)
+                .writerNickname("writer")
+                .build();
+    }
+}
@@ -0,0 +1,78 @@
+package comment.cache;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import comment.dto.CommentResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CommentTreeSnapshotTest {
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+    private final CommentTreeSnapshot snapshot = new CommentTreeSnapshot();
+
+    @Test
+    void appendPlacesRepliesUnderTheirParent() throws IOException {
+        assertThat(snapshot.append(1L, null, node(1L))).isTrue();
+        assertThat(snapshot.append(2L, 1L, node(2L))).isTrue();
+        assertThat(snapshot.append(3L, 2L, node(3L))).isTrue();
+        assertThat(snapshot.append(4L, null, node(4L))).isTrue();
+
+        JsonNode roots = data(snapshot);
+        assertThat(roots).hasSize(2);
+        assertThat(roots.get(0).at("/children/0/commentId").asLong()).isEqualTo(2L);
+        assertThat(roots.get(0).at("/children/0/children/0/commentId").asLong()).isEqualTo(3L);
+    }
+
+    @Test
+    void appendWithUnknownParentIsRefused() {
+        assertThat(snapshot.append(2L, 1L, node(2L))).isFalse();
+    }
+
+    @Test
+    void appendingTheSameCommentTwiceKeepsOneNode() throws IOException {
+        snapshot.append(1L, null, node(1L));
+        assertThat(snapshot.append(1L, null, node(1L))).isTrue();
+
+        assertThat(data(snapshot)).hasSize(1);
+    }
+
+    @Test
+    void removeDropsTheWholeSubtree() throws IOException {
+        snapshot.append(1L, null, node(1L));
+        snapshot.append(2L, 1L, node(2L));
+        snapshot.append(3L, 2L, node(3L));
+
+        snapshot.remove(2L);
+
+        assertThat(data(snapshot).get(0).get("children")).isEmpty();
+        assertThat(snapshot.append(5L, 3L, node(5L))).isFalse();
+    }
+
+    @Test
+    void renderIsReusedUntilTheTreeChanges() {
+        snapshot.append(1L, null, node(1L));
+        CommentTreeSnapshot.Rendered first = snapshot.render(objectMapper);
+
+        assertThat(snapshot.render(objectMapper)).isSameAs(first);
+
+        snapshot.append(2L, 1L, node(2L));
+        assertThat(snapshot.render(objectMapper).etag()).isNotEqualTo(first.etag());
+    }
+
+    private JsonNode data(CommentTreeSnapshot snapshot) throws IOException {
+        return objectMapper.readTree(snapshot.render(objectMapper).body()).get("data");
+    }
+
+    private static CommentResponse node(Long commentId) {
+        return CommentResponse.builder()
+                .commentId(commentId)
+                .content("comment " + commentId)
+                .writerNickname("writer")
+                .build();
+    }
+}
@@ -0,0 +1,91 @@
+package comment.dto;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import common.dto.ApiResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Serialization time and payload size of a 500-comment thread as JSON and CBOR, raw and gzipped, using the same
+ * Jackson builder the services configure their converters from. Numbers are printed for comparison.
+ */
+class CommentResponseEncodingTest {
+
+    private static final int ROOTS = 100;
+    private static final int REPLIES_PER_ROOT = 4;
+    private static final int WARMUP = 2_000;
+    private static final int ITERATIONS = 2_000;
+
+    // Boot's default: ISO-8601 dates instead of timestamp arrays
+    private final ObjectMapper json = Jackson2ObjectMapperBuilder.json()
+            .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS).build();
+    private final ObjectMapper cbor = Jackson2ObjectMapperBuilder.cbor()
+            .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS).build();
+
+    @Test
+    void cborThreadIsSmallerThanJson() throws IOException {
+        ApiResponse<List<CommentResponse>> thread = ApiResponse.ok(thread());
+
+        byte[] jsonBytes = json.writeValueAsBytes(thread);
+        byte[] cborBytes = cbor.writeValueAsBytes(thread);
+        double jsonMicros = serializeMicros(json, thread);
+        double cborMicros = serializeMicros(cbor, thread);
+
+        System.out.printf("500-comment thread  JSON %,d B (gzip %,d B) %.1f us/op  CBOR %,d B (gzip %,d B) %.1f us/op%n",
+                jsonBytes.length, gzip(jsonBytes), jsonMicros, cborBytes.length, gzip(cborBytes), cborMicros);
+        assertThat(cborBytes.length).isLessThan(jsonBytes.length);
+        assertThat(cbor.readTree(cborBytes)).isEqualTo(json.readTree(jsonBytes));
+    }
+
+    private static List<CommentResponse> thread() {
+        List<CommentResponse> roots = new ArrayList<>();
+        LocalDateTime createdAt = LocalDateTime.of(2024, 5, 1, 12, 0);
+        long id = 1;
+        for (int i = 0; i < ROOTS; i++) {
+            CommentResponse root = comment(id++, createdAt.plusMinutes(i));
+            for (int j = 0; j < REPLIES_PER_ROOT; j++) {
+                root.addChild(comment(id++, createdAt.plusMinutes(i).plusSeconds(j + 1)));
+            }
+            roots.add(root);
+        }
+        return roots;
+    }
+
+    private static CommentResponse comment(long id, LocalDateTime createdAt) {
+        return CommentResponse.builder()
+                .commentId(1_790_000_000_000_000_000L + id)
+                .content("댓글 내용입니다. Comment body number " + id + " with a bit of text to look like a reply.")
+                .writerNickname("사용자" + (id % 37))
+                .createdAt(createdAt)
+                .build();
+    }
+
+    private static double serializeMicros(ObjectMapper mapper, Object value) throws IOException {
+        for (int i = 0; i < WARMUP; i++) {
+            mapper.writeValueAsBytes(value);
+        }
+        long started = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            mapper.writeValueAsBytes(value);
+        }
+        return (System.nanoTime() - started) / 1_000.0 / ITERATIONS;
+    }
+
+    private static int gzip(byte[] bytes) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(bytes);
+        }
+        return out.size();
+    }
+}
@@ -0,0 +1,81 @@
+package comment.repository;
+
+import common.test.MySqlTestDatabase;
+import common.test.SqlCapture;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.AutoConfigurationPackage;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+
+/**
+ * Runs the comment queries through {@link CommentRepository} against the migrated MySQL schema and checks, with
+ * EXPLAIN on the SQL Hibernate generated, that they use the indexes added for them without a filesort.
+ * Skipped when Docker is not available.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class CommentRepositoryQueryTest {
+
+    private static String url;
+
+    // Entities and repositories only; the application class scans every component in comment and common
+    @Configuration
+    @AutoConfigurationPackage(basePackages = "comment")
+    static class JpaConfig {
+    }
+
+    @DynamicPropertySource
+    static void dataSource(DynamicPropertyRegistry registry) throws SQLException {
+        url = MySqlTestDatabase.createDatabase("commentdb_queries");
+        MySqlTestDatabase.registerDataSource(registry, url);
+    }
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Test
+    void commentQueriesUseIndexes() throws SQLException {
+        // Hibernate binds the page as LIMIT offset, size
+        PageRequest page = PageRequest.of(0, 10);
+        try (Connection connection = MySqlTestDatabase.connect(url)) {
+            insertComments(connection, 2000);
+            MySqlTestDatabase.analyze(connection, "comments");
+
+            MySqlTestDatabase.assertUsesIndex(connection, "idx_comments_article_id_created_at",
+                    SqlCapture.single(() -> commentRepository.findAllByArticleId(1L)), 1L);
+            MySqlTestDatabase.assertUsesIndex(connection, "idx_comments_user_id_id",
+                    SqlCapture.single(() -> commentRepository.findAllByUserIdOrderByIdDesc(1L, page)), 1L, 0, 10);
+            MySqlTestDatabase.assertUsesIndex(connection, "idx_comments_user_id_id",
+                    SqlCapture.single(() -> commentRepository.findAllByUserIdAndIdLessThan(1L, 1000L, page)),
+                    1L, 1000L, 0, 10);
+        }
+    }
+
+    private static void insertComments(Connection connection, int count) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement("INSERT INTO comments "
+                + "(id, article_id, user_id, writer_nickname, content, created_at) VALUES (?, ?, ?, 'writer', ?, NOW(6))")) {
+            for (int i = 1; i <= count; i++) {
+                statement.setLong(1, i);
+                statement.setLong(2, i % 20);
+                statement.setLong(3, i % 50);
+                statement.setString(4, "content-" + i);
+                statement.addBatch();
+            }
+            statement.executeBatch();
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package user.cache;
+
+import common.util.BloomFilter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import user.repository.UserRepository;
+
+import java.text.Normalizer;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * Bloom filter of every registered username, loaded once at startup and updated on signup.
+ * A negative answer means the name is definitely free on this instance's view; a positive one must be
+ * confirmed in the database. Until loading finishes every name is reported as "maybe taken".
+ *
+ * <p>{@code users.username} uses {@code utf8mb4_unicode_ci}, which ignores case, accents and trailing spaces, so
+ * keys are folded the same way before they reach the filter; otherwise "Alice" would look free while "alice" is
+ * taken. The folding is narrower than the collation (it does not equate "ß" with "ss", for instance). Such a name
+ * can look free here and skip the existence query, but the unique index still rejects it and signup answers 409.
+ */
+@Slf4j
+@Component
+public class UsernameFilter {
+
+    private static final Pattern COMBINING_MARKS = Pattern.compile("\\p{M}+");
+    private static final Pattern TRAILING_SPACES = Pattern.compile(" +$");
+
+    private final UserRepository userRepository;
+    private final BloomFilter filter;
+    private volatile boolean ready;
+
+    public UsernameFilter(UserRepository userRepository,
+            @Value("${username-filter.expected-users:1000000}") long expectedUsers) {
+        this.userRepository = userRepository;
+        this.filter = new BloomFilter(expectedUsers, 0.01);
+    }
+
+    public boolean mightExist(String username) {
+        return !ready || filter.mightContain(normalize(username));
+    }
+
+    public void add(String username) {
+        filter.put(normalize(username));
+    }
+
+    @Transactional(readOnly = true)
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        AtomicLong count = new AtomicLong();
+        try (Stream<String> usernames = userRepository.streamAllUsernames()) {
+            usernames.forEach(username -> {
+                add(username);
+                count.incrementAndGet();
+            });
+        }
+        ready = true;
+        log.info("UsernameFilter loaded {} usernames", count.get());
+    }
+
+    static String normalize(String username) {
+        String decomposed = Normalizer.normalize(username, Normalizer.Form.NFD);
+        String folded = COMBINING_MARKS.matcher(decomposed).replaceAll("").toLowerCase(Locale.ROOT);
+        // PAD SPACE: "alice " and "alice" are equal in the index
+        return TRAILING_SPACES.matcher(folded).replaceAll("");
+    }
+}
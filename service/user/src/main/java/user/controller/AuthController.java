@@ -3,12 +3,15 @@ package user.controller;
 import common.dto.ApiResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import user.dto.LoginRequest;
 import user.dto.LoginResponse;
+import user.dto.RefreshRequest;
 import user.dto.SignupRequest;
 import user.service.AuthService;
 
@@ -27,14 +30,29 @@ public class AuthController {
         return ApiResponse.created(Map.of("userId", userId));
     }
 
+    @GetMapping("/username-availability")
+    public ApiResponse<Map<String, Boolean>> checkUsername(@RequestParam String username) {
+        boolean available = authService.isUsernameAvailable(username);
+        return ApiResponse.ok(Map.of("available", available));
+    }
+
     @PostMapping("/login")
     public ApiResponse<LoginResponse> login(@Valid @RequestBody LoginRequest request) {
         LoginResponse response = authService.login(request);
         return ApiResponse.ok(response);
     }
 
+    @PostMapping("/refresh")
+    public ApiResponse<LoginResponse> refresh(@Valid @RequestBody RefreshRequest request) {
+        LoginResponse response = authService.refresh(request.getRefreshToken());
+        return ApiResponse.ok(response);
+    }
+
     @PostMapping("/logout")
-    public ApiResponse<Void> logout() {
+    public ApiResponse<Void> logout(@Valid @RequestBody(required = false) RefreshRequest request) {
+        if (request != null) {
+            authService.logout(request.getRefreshToken());
+        }
         return ApiResponse.ok(null);
     }
 }
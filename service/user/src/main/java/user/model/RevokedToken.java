@@ -0,0 +1,38 @@
+package user.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Entity
+@Table(name = "revoked_tokens")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class RevokedToken {
+
+    @Id
+    @Column(length = 36)
+    private String tokenId;
+
+    @Column(nullable = false)
+    private Long expiresAt;
+
+    // When the row was written, not when the token was revoked, so other instances can read new rows incrementally
+    @Column(nullable = false)
+    private Long revokedAt;
+
+    public RevokedToken(String tokenId, Long expiresAt) {
+        this.tokenId = tokenId;
+        this.expiresAt = expiresAt;
+    }
+
+    @PrePersist
+    void stampRevokedAt() {
+        this.revokedAt = System.currentTimeMillis();
+    }
+}
@@ -44,4 +44,8 @@ public class User {
         this.password = password;
         this.nickname = nickname;
     }
+
+    public void changePassword(String password) {
+        this.password = password;
+    }
 }
@@ -0,0 +1,130 @@
+package user.security;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.bcrypt.BCrypt;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Pattern;
+
+/**
+ * Runs BCrypt on a fixed pool sized to the CPU count so login bursts queue here instead of occupying every
+ * request thread. When the queue is full the request is rejected right away ({@link RejectedExecutionException}).
+ */
+@Slf4j
+@Component
+public class PasswordHasher {
+
+    private static final Pattern BCRYPT_PATTERN = Pattern.compile("^\\$2[aby]?\\$\\d\\d\\$[./0-9A-Za-z]{53}$");
+
+    private final ThreadPoolExecutor executor;
+    private final long timeoutMillis;
+    private final BCryptPasswordEncoder encoder;
+    private final String dummyHash;
+
+    public PasswordHasher(
+            @Value("${password.hash.threads:0}") int threads,
+            @Value("${password.hash.queue-capacity:64}") int queueCapacity,
+            @Value("${password.hash.timeout:3000}") long timeoutMillis,
+            @Value("${password.hash.target-latency:100}") long targetLatencyMillis,
+            @Value("${password.hash.min-strength:10}") int minStrength,
+            @Value("${password.hash.max-strength:14}") int maxStrength) {
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> new Thread(runnable, "password-hasher-" + threadNumber.incrementAndGet()),
+                new ThreadPoolExecutor.AbortPolicy());
+        this.timeoutMillis = timeoutMillis;
+        this.encoder = new BCryptPasswordEncoder(calibrate(minStrength, maxStrength, targetLatencyMillis));
+        this.dummyHash = encoder.encode(UUID.randomUUID().toString());
+    }
+
+    public String encode(String rawPassword) {
+        return submit(() -> encoder.encode(rawPassword));
+    }
+
+    public boolean matches(String rawPassword, String storedPassword) {
+        if (!isHashed(storedPassword)) {
+            // Legacy rows still hold the plaintext password; they are rehashed on the next successful login.
+            return MessageDigest.isEqual(
+                    rawPassword.getBytes(StandardCharsets.UTF_8), storedPassword.getBytes(StandardCharsets.UTF_8));
+        }
+        return submit(() -> encoder.matches(rawPassword, storedPassword));
+    }
+
+    /**
+     * Spends the same BCrypt work as {@link #matches} against a throwaway hash, so a login for an unknown username
+     * takes as long as one with a wrong password.
+     */
+    public void matchesDummy(String rawPassword) {
+        submit(() -> encoder.matches(rawPassword, dummyHash));
+    }
+
+    public boolean needsRehash(String storedPassword) {
+        return !isHashed(storedPassword) || encoder.upgradeEncoding(storedPassword);
+    }
+
+    private boolean isHashed(String storedPassword) {
+        return BCRYPT_PATTERN.matcher(storedPassword).matches();
+    }
+
+    private <T> T submit(Callable<T> task) {
+        Future<T> future = executor.submit(task);
+        try {
+            return future.get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            throw new RejectedExecutionException("Password hashing timed out", e);
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Password hashing interrupted", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Password hashing failed", e.getCause());
+        }
+    }
+
+    // Each strength step doubles the cost, so stop at the highest one that still fits the target latency.
+    private int calibrate(int minStrength, int maxStrength, long targetLatencyMillis) {
+        BCrypt.hashpw("warm-up", BCrypt.gensalt(4));
+
+        int strength = minStrength;
+        for (int candidate = minStrength; candidate <= maxStrength; candidate++) {
+            long start = System.nanoTime();
+            BCrypt.hashpw("calibration", BCrypt.gensalt(candidate));
+            long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+            if (elapsedMillis > targetLatencyMillis && candidate > minStrength) {
+                break;
+            }
+            strength = candidate;
+            if (elapsedMillis * 2 > targetLatencyMillis) {
+                break;
+            }
+        }
+
+        log.info("PasswordHasher calibrated to BCrypt strength {} (target {} ms, {} threads)",
+                strength, targetLatencyMillis, executor.getCorePoolSize());
+        return strength;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
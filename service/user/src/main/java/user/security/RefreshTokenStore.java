@@ -0,0 +1,137 @@
+package user.security;
+
+import common.util.BloomFilter;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import user.model.RevokedToken;
+import user.repository.RevokedTokenRepository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Revoked refresh-token ids and family ids. Lookups hit a Bloom filter first, so the common case (not revoked)
+ * is answered without touching the exact map. New revocations are written to the database in the background
+ * and loaded back on startup.
+ *
+ * <p>Each instance keeps its own set and picks up revocations made by other instances from the database every
+ * {@code refresh-token.reload-interval}, so reuse of a token rotated on another instance is only detected after
+ * that instance has persisted it and this one has reloaded (up to persist-interval + reload-interval). Startup
+ * loads every unexpired row; later reloads only read rows written since the previous reload started, less
+ * {@code refresh-token.reload-overlap} to cover commit delays and clock skew between instances.
+ */
+@Slf4j
+@Component
+public class RefreshTokenStore {
+
+    private final RevokedTokenRepository revokedTokenRepository;
+    private final long expectedRevocations;
+    private final Map<String, Long> revoked = new ConcurrentHashMap<>();
+    private final Queue<RevokedToken> pending = new ConcurrentLinkedQueue<>();
+    private final long reloadOverlapMillis;
+    private volatile BloomFilter filter;
+    // revoked_at the next reload reads from; negative until the first, full, load
+    private volatile long reloadFrom = -1;
+
+    public RefreshTokenStore(RevokedTokenRepository revokedTokenRepository,
+            @Value("${refresh-token.expected-revocations:100000}") long expectedRevocations,
+            @Value("${refresh-token.reload-overlap:10000}") long reloadOverlapMillis) {
+        this.revokedTokenRepository = revokedTokenRepository;
+        this.expectedRevocations = expectedRevocations;
+        this.reloadOverlapMillis = reloadOverlapMillis;
+        this.filter = newFilter();
+    }
+
+    public boolean isRevoked(String id) {
+        return filter.mightContain(id) && revoked.containsKey(id);
+    }
+
+    /**
+     * @return {@code false} if the id was already revoked
+     */
+    public synchronized boolean revoke(String id, long expiresAt) {
+        if (revoked.putIfAbsent(id, expiresAt) != null) {
+            return false;
+        }
+        filter.put(id);
+        pending.add(new RevokedToken(id, expiresAt));
+        return true;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        int loaded = reload();
+        log.info("Loaded {} revoked refresh tokens", loaded);
+    }
+
+    @Scheduled(initialDelayString = "${refresh-token.reload-interval:60000}",
+            fixedDelayString = "${refresh-token.reload-interval:60000}")
+    public int reload() {
+        long started = System.currentTimeMillis();
+        long since = reloadFrom;
+        List<RevokedToken> tokens = since < 0
+                ? revokedTokenRepository.findAllByExpiresAtGreaterThan(started)
+                : revokedTokenRepository.findAllByRevokedAtGreaterThanAndExpiresAtGreaterThan(since, started);
+        synchronized (this) {
+            for (RevokedToken token : tokens) {
+                if (revoked.putIfAbsent(token.getTokenId(), token.getExpiresAt()) == null) {
+                    filter.put(token.getTokenId());
+                }
+            }
+        }
+        reloadFrom = started - reloadOverlapMillis;
+        return tokens.size();
+    }
+
+    @Scheduled(fixedDelayString = "${refresh-token.persist-interval:10000}")
+    public void persist() {
+        List<RevokedToken> batch = new ArrayList<>();
+        RevokedToken token;
+        while ((token = pending.poll()) != null) {
+            batch.add(token);
+        }
+        if (batch.isEmpty()) {
+            return;
+        }
+        try {
+            revokedTokenRepository.saveAll(batch);
+        } catch (RuntimeException e) {
+            // Put the batch back so the revocations are retried instead of lost
+            pending.addAll(batch);
+            log.warn("Failed to persist {} revoked refresh tokens, will retry", batch.size(), e);
+        }
+    }
+
+    @PreDestroy
+    public void flush() {
+        persist();
+    }
+
+    // Expired ids can't be removed from a Bloom filter, so the filter is rebuilt from what remains.
+    @Scheduled(fixedDelayString = "${refresh-token.purge-interval:3600000}")
+    public void purgeExpired() {
+        long now = System.currentTimeMillis();
+        revoked.values().removeIf(expiresAt -> expiresAt <= now);
+
+        synchronized (this) {
+            BloomFilter rebuilt = newFilter();
+            revoked.keySet().forEach(rebuilt::put);
+            filter = rebuilt;
+        }
+
+        revokedTokenRepository.deleteExpired(now);
+    }
+
+    private BloomFilter newFilter() {
+        return new BloomFilter(expectedRevocations, 0.01);
+    }
+}
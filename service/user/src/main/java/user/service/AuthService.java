@@ -1,14 +1,21 @@
 package user.service;
 
+import common.exception.ConflictException;
 import common.security.JwtTokenProvider;
+import common.security.RefreshTokenClaims;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import user.cache.UsernameFilter;
 import user.dto.LoginRequest;
 import user.dto.LoginResponse;
 import user.dto.SignupRequest;
 import user.model.User;
 import user.repository.UserRepository;
+import user.security.PasswordHasher;
+import user.security.RefreshTokenStore;
 
 @Service
 @RequiredArgsConstructor
@@ -17,30 +24,59 @@ public class AuthService {
 
     private final UserRepository userRepository;
     private final JwtTokenProvider jwtTokenProvider;
+    private final PasswordHasher passwordHasher;
+    private final RefreshTokenStore refreshTokenStore;
+    private final UsernameFilter usernameFilter;
 
-    @Transactional
+    // Hashing can take ~100ms, so signup and login run outside a transaction and don't hold a DB connection
+    // while waiting for it; each repository call uses its own short transaction.
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public Long signup(SignupRequest request) {
-        if (userRepository.existsByUsername(request.getUsername())) {
-            throw new IllegalArgumentException("Username already exists");
+        // Names the filter has never seen skip the existence query; the unique index still catches races.
+        if (usernameFilter.mightExist(request.getUsername())
+                && userRepository.existsByUsername(request.getUsername())) {
+            throw new ConflictException("Username already exists");
         }
 
         User user = User.builder()
                 .username(request.getUsername())
-                .password(request.getPassword())
+                .password(passwordHasher.encode(request.getPassword()))
                 .nickname(request.getNickname())
                 .build();
 
-        return userRepository.save(user).getId();
+        try {
+            Long userId = userRepository.saveAndFlush(user).getId();
+            usernameFilter.add(request.getUsername());
+            return userId;
+        } catch (DataIntegrityViolationException e) {
+            usernameFilter.add(request.getUsername());
+            throw new ConflictException("Username already exists");
+        }
+    }
+
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public boolean isUsernameAvailable(String username) {
+        return !usernameFilter.mightExist(username) || !userRepository.existsByUsername(username);
     }
 
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public LoginResponse login(LoginRequest request) {
-        User user = userRepository.findByUsername(request.getUsername())
-                .orElseThrow(() -> new IllegalArgumentException("Invalid username or password"));
+        User user = userRepository.findByUsername(request.getUsername()).orElse(null);
+        if (user == null) {
+            // Same hashing cost as a wrong password, so response time does not reveal which usernames exist
+            passwordHasher.matchesDummy(request.getPassword());
+            throw new IllegalArgumentException("Invalid username or password");
+        }
 
-        if (!user.getPassword().equals(request.getPassword())) {
+        if (!passwordHasher.matches(request.getPassword(), user.getPassword())) {
             throw new IllegalArgumentException("Invalid username or password");
         }
 
+        if (passwordHasher.needsRehash(user.getPassword())) {
+            user.changePassword(passwordHasher.encode(request.getPassword()));
+            userRepository.save(user);
+        }
+
         String accessToken = jwtTokenProvider.createAccessToken(user.getUsername());
         String refreshToken = jwtTokenProvider.createRefreshToken(user.getUsername());
 
@@ -49,4 +85,34 @@ public class AuthService {
                 .refreshToken(refreshToken)
                 .build();
     }
+
+    // Each refresh token can be exchanged once. Presenting an already rotated token means it leaked,
+    // so the whole family (every token descended from the same login) is revoked.
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public LoginResponse refresh(String refreshToken) {
+        RefreshTokenClaims claims = jwtTokenProvider.parseRefreshToken(refreshToken);
+
+        if (refreshTokenStore.isRevoked(claims.familyId())) {
+            throw new IllegalArgumentException("Invalid refresh token");
+        }
+        if (!refreshTokenStore.revoke(claims.tokenId(), claims.expiresAt())) {
+            revokeFamily(claims);
+            throw new IllegalArgumentException("Refresh token reuse detected");
+        }
+
+        return LoginResponse.builder()
+                .accessToken(jwtTokenProvider.createAccessToken(claims.username()))
+                .refreshToken(jwtTokenProvider.createRefreshToken(claims.username(), claims.familyId()))
+                .build();
+    }
+
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void logout(String refreshToken) {
+        revokeFamily(jwtTokenProvider.parseRefreshToken(refreshToken));
+    }
+
+    private void revokeFamily(RefreshTokenClaims claims) {
+        refreshTokenStore.revoke(claims.familyId(),
+                System.currentTimeMillis() + jwtTokenProvider.getRefreshTokenValidityInMilliseconds());
+    }
 }
@@ -0,0 +1,6 @@
+-- Not part of V1: schemas baselined at V1 may predate refresh-token revocation or already have this table
+CREATE TABLE IF NOT EXISTS revoked_tokens (
+    token_id   VARCHAR(36) NOT NULL,
+    expires_at BIGINT      NOT NULL,
+    PRIMARY KEY (token_id)
+) ENGINE = InnoDB;
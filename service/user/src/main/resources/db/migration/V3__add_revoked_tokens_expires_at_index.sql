@@ -0,0 +1,4 @@
+-- RevokedTokenRepository.findAllByExpiresAtGreaterThan / deleteExpired
+ALTER TABLE revoked_tokens
+    ADD INDEX idx_revoked_tokens_expires_at (expires_at),
+    ALGORITHM = INPLACE, LOCK = NONE;
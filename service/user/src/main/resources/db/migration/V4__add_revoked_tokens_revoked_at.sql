@@ -0,0 +1,6 @@
+-- RefreshTokenStore.reload reads only rows persisted since its previous run; rows written before this column stay 0
+-- and are picked up by the full load at startup
+ALTER TABLE revoked_tokens
+    ADD COLUMN revoked_at BIGINT NOT NULL DEFAULT 0,
+    ADD INDEX idx_revoked_tokens_revoked_at (revoked_at),
+    ALGORITHM = INPLACE, LOCK = NONE;
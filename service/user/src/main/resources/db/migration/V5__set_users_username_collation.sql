@@ -0,0 +1,4 @@
+-- V1 left the collation to the server default. UsernameFilter folds case and accents and ignores trailing spaces,
+-- which matches utf8mb4_unicode_ci (PAD SPACE). Changing the collation of an indexed column rebuilds the table.
+ALTER TABLE users
+    MODIFY username VARCHAR(255) CHARACTER SET utf8mb4 COLLATE utf8mb4_unicode_ci NOT NULL;
@@ -0,0 +1,20 @@
+package user.cache;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UsernameFilterTest {
+
+    @Test
+    void normalizeFoldsWhatTheCollationTreatsAsEqual() {
+        assertThat(UsernameFilter.normalize("Alice")).isEqualTo("alice");
+        assertThat(UsernameFilter.normalize("Álice")).isEqualTo("alice");
+        assertThat(UsernameFilter.normalize("alice  ")).isEqualTo("alice");
+    }
+
+    @Test
+    void normalizeKeepsLeadingSpaces() {
+        assertThat(UsernameFilter.normalize(" alice")).isEqualTo(" alice");
+    }
+}
@@ -0,0 +1,43 @@
+package user.repository;
+
+import common.test.MySqlTestDatabase;
+import org.junit.jupiter.api.Test;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Runs the Flyway migrations against a MySQL schema left by {@code ddl-auto: update} and checks that the
+ * revoked-token table and its indexes are created after the V1 baseline. Skipped when Docker is not available.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class RevokedTokenMigrationTest {
+
+    @Test
+    void baselinedSchemaWithoutRevokedTokensGetsTableAndIndexes() throws SQLException {
+        String url = MySqlTestDatabase.createDatabase("userdb_legacy");
+        try (Connection connection = MySqlTestDatabase.connect(url); Statement statement = connection.createStatement()) {
+            // Schema left by ddl-auto: update before refresh-token revocation existed
+            statement.execute("""
+                    CREATE TABLE users (
+                        id         BIGINT       NOT NULL AUTO_INCREMENT,
+                        username   VARCHAR(255) NOT NULL,
+                        password   VARCHAR(255) NOT NULL,
+                        nickname   VARCHAR(255) NOT NULL,
+                        created_at DATETIME(6),
+                        updated_at DATETIME(6),
+                        PRIMARY KEY (id),
+                        CONSTRAINT uk_users_username UNIQUE (username)
+                    ) ENGINE = InnoDB""");
+        }
+
+        MySqlTestDatabase.migrate(url);
+
+        try (Connection connection = MySqlTestDatabase.connect(url)) {
+            MySqlTestDatabase.assertIndexExists(connection, "revoked_tokens", "idx_revoked_tokens_expires_at");
+            MySqlTestDatabase.assertIndexExists(connection, "revoked_tokens", "idx_revoked_tokens_revoked_at");
+        }
+    }
+}
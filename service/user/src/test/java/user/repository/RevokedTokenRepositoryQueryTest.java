@@ -0,0 +1,84 @@
+package user.repository;
+
+import common.test.MySqlTestDatabase;
+import common.test.SqlCapture;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.AutoConfigurationPackage;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+
+/**
+ * Runs the revoked-token queries through {@link RevokedTokenRepository} against the migrated MySQL schema and
+ * checks, with EXPLAIN on the SQL Hibernate generated, that they use the indexes added for them.
+ * Skipped when Docker is not available.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class RevokedTokenRepositoryQueryTest {
+
+    private static final long EXPIRES_FROM = 1_000_000;
+
+    private static String url;
+
+    // Entities and repositories only; the application class scans every component in user and common
+    @Configuration
+    @AutoConfigurationPackage(basePackages = "user")
+    static class JpaConfig {
+    }
+
+    @DynamicPropertySource
+    static void dataSource(DynamicPropertyRegistry registry) throws SQLException {
+        url = MySqlTestDatabase.createDatabase("userdb_queries");
+        MySqlTestDatabase.registerDataSource(registry, url);
+    }
+
+    @Autowired
+    private RevokedTokenRepository revokedTokenRepository;
+
+    @Test
+    void reloadAndPurgeQueriesUseIndexes() throws SQLException {
+        try (Connection connection = MySqlTestDatabase.connect(url)) {
+            insertTokens(connection, 2000);
+            MySqlTestDatabase.analyze(connection, "revoked_tokens");
+
+            long now = EXPIRES_FROM + 1990;
+            MySqlTestDatabase.assertUsesIndex(connection, "idx_revoked_tokens_expires_at",
+                    SqlCapture.single(() -> revokedTokenRepository.findAllByExpiresAtGreaterThan(now)), now);
+            MySqlTestDatabase.assertUsesIndex(connection, "idx_revoked_tokens_revoked_at",
+                    SqlCapture.single(() -> revokedTokenRepository
+                            .findAllByRevokedAtGreaterThanAndExpiresAtGreaterThan(1990L, EXPIRES_FROM)),
+                    1990L, EXPIRES_FROM);
+            // Last: this one deletes rows
+            long purgeBefore = EXPIRES_FROM + 10;
+            MySqlTestDatabase.assertUsesIndex(connection, "idx_revoked_tokens_expires_at",
+                    SqlCapture.single(() -> revokedTokenRepository.deleteExpired(purgeBefore)), purgeBefore);
+        }
+    }
+
+    // Most tokens unexpired and a few written recently, as between two reloads
+    private static void insertTokens(Connection connection, int count) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(
+                "INSERT INTO revoked_tokens (token_id, expires_at, revoked_at) VALUES (?, ?, ?)")) {
+            for (int i = 0; i < count; i++) {
+                statement.setString(1, "token-" + i);
+                statement.setLong(2, EXPIRES_FROM + i);
+                statement.setLong(3, i);
+                statement.addBatch();
+            }
+            statement.executeBatch();
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package user.repository;
+
+import common.test.MySqlTestDatabase;
+import org.junit.jupiter.api.Test;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.SQLIntegrityConstraintViolationException;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Runs the Flyway migrations against MySQL and checks that the username index compares names the way
+ * {@code UsernameFilter} folds them. Skipped when Docker is not available.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class UserMigrationTest {
+
+    @Test
+    void usernamesDifferingInCaseAccentOrTrailingSpaceCollide() throws SQLException {
+        String url = MySqlTestDatabase.createDatabase("userdb_collation");
+        MySqlTestDatabase.migrate(url);
+
+        try (Connection connection = MySqlTestDatabase.connect(url)) {
+            insertUser(connection, "alice");
+
+            assertThatThrownBy(() -> insertUser(connection, "Alice"))
+                    .isInstanceOf(SQLIntegrityConstraintViolationException.class);
+            assertThatThrownBy(() -> insertUser(connection, "Álice"))
+                    .isInstanceOf(SQLIntegrityConstraintViolationException.class);
+            assertThatThrownBy(() -> insertUser(connection, "alice "))
+                    .isInstanceOf(SQLIntegrityConstraintViolationException.class);
+        }
+    }
+
+    private static void insertUser(Connection connection, String username) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(
+                "INSERT INTO users (username, password, nickname) VALUES (?, 'password', 'nickname')")) {
+            statement.setString(1, username);
+            statement.executeUpdate();
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package user.security;
+
+import org.junit.jupiter.api.Test;
+import user.model.RevokedToken;
+import user.repository.RevokedTokenRepository;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.longThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class RefreshTokenStoreTest {
+
+    private static final long OVERLAP = 10_000;
+
+    private final RevokedTokenRepository repository = mock(RevokedTokenRepository.class);
+    private final RefreshTokenStore store = new RefreshTokenStore(repository, 1_000, OVERLAP);
+
+    @Test
+    void firstReloadLoadsEveryUnexpiredRow() {
+        long future = System.currentTimeMillis() + 60_000;
+        when(repository.findAllByExpiresAtGreaterThan(anyLong()))
+                .thenReturn(List.of(new RevokedToken("a", future), new RevokedToken("b", future)));
+
+        assertThat(store.reload()).isEqualTo(2);
+
+        assertThat(store.isRevoked("a")).isTrue();
+        assertThat(store.isRevoked("b")).isTrue();
+        verify(repository, never()).findAllByRevokedAtGreaterThanAndExpiresAtGreaterThan(anyLong(), anyLong());
+    }
+
+    @Test
+    void laterReloadsReadOnlyRowsSinceThePreviousStartLessOverlap() {
+        when(repository.findAllByExpiresAtGreaterThan(anyLong())).thenReturn(List.of());
+        long beforeFirst = System.currentTimeMillis();
+        store.reload();
+        long afterFirst = System.currentTimeMillis();
+
+        long future = afterFirst + 60_000;
+        when(repository.findAllByRevokedAtGreaterThanAndExpiresAtGreaterThan(anyLong(), anyLong()))
+                .thenReturn(List.of(new RevokedToken("c", future)));
+        store.reload();
+
+        verify(repository).findAllByRevokedAtGreaterThanAndExpiresAtGreaterThan(
+                longThat(since -> since >= beforeFirst - OVERLAP && since <= afterFirst - OVERLAP), anyLong());
+        assertThat(store.isRevoked("c")).isTrue();
+    }
+}